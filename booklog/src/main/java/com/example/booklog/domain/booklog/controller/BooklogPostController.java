@@ -3,8 +3,7 @@ package com.example.booklog.domain.booklog.controller;
 import com.example.booklog.domain.booklog.dto.*;
 import com.example.booklog.domain.booklog.service.BooklogPostService;
 import com.example.booklog.domain.tags.entity.TagCategory;
-import com.example.booklog.domain.tags.entity.Tags;
-import com.example.booklog.domain.tags.repository.TagsRepository;
+import com.example.booklog.domain.tags.service.TagRegistry;
 import com.example.booklog.global.auth.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,10 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Tag(name = "Booklog", description = "북로그 API")
 @RestController
@@ -30,7 +26,7 @@ import java.util.stream.Collectors;
 public class BooklogPostController {
 
     private final BooklogPostService booklogPostService;
-    private final TagsRepository tagsRepository;
+    private final TagRegistry tagRegistry;
 
     // 1) 피드 조회 (북로그 메인 페이지)
     // GET /api/v1/booklogs/feed
@@ -50,23 +46,11 @@ public class BooklogPostController {
     @Operation(summary = "태그 드롭다운 값 (MOOD/STYLE/IMMERSION)")
     @GetMapping("/tags/options")
     public ResponseEntity<TagOptionsResponse> getTagOptions() {
-        List<Tags> all = tagsRepository.findAll();
-
-        // 보기 좋게 category -> tag list 로 그룹핑 (이름순 정렬)
-        Map<TagCategory, List<TagOptionItem>> grouped = all.stream()
-                .sorted(Comparator.comparing(Tags::getName))
-                .collect(Collectors.groupingBy(
-                        Tags::getCategory,
-                        Collectors.mapping(t -> TagOptionItem.builder()
-                                .tagId(t.getId())
-                                .name(t.getName())
-                                .build(), Collectors.toList())
-                ));
-
+        // 태그 사전(메모리)에서 카테고리별 목록 사용 (이름순 정렬되어 있음)
         TagOptionsResponse response = TagOptionsResponse.builder()
-                .mood(grouped.getOrDefault(TagCategory.MOOD, List.of()))
-                .style(grouped.getOrDefault(TagCategory.STYLE, List.of()))
-                .immersion(grouped.getOrDefault(TagCategory.IMMERSION, List.of()))
+                .mood(toOptions(TagCategory.MOOD))
+                .style(toOptions(TagCategory.STYLE))
+                .immersion(toOptions(TagCategory.IMMERSION))
                 .build();
         return ResponseEntity.ok(response);
     }
@@ -148,4 +132,13 @@ public class BooklogPostController {
 
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    private List<TagOptionItem> toOptions(TagCategory category) {
+        return tagRegistry.findByCategory(category).stream()
+                .map(t -> TagOptionItem.builder()
+                        .tagId(t.id())
+                        .name(t.name())
+                        .build())
+                .toList();
+    }
+}
@@ -47,10 +47,11 @@ public class BooklogFeedConverter {
                 .build();
     }
 
-    public BooklogFeedResponse toFeedResponse(List<BooklogPostCardResponse> items, boolean hasNext) {
+    public BooklogFeedResponse toFeedResponse(List<BooklogPostCardResponse> items, boolean hasNext, String nextCursor) {
         return BooklogFeedResponse.builder()
                 .items(items)
                 .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -12,4 +12,7 @@ public class BooklogFeedQuery {
     private List<Long> moodTagIds;
     private List<Long> styleTagIds;
     private List<Long> immersionTagIds;
+
+    // 이전 응답의 nextCursor (없으면 첫 페이지). 있으면 page 파라미터는 무시
+    private String cursor;
 }
@@ -11,4 +11,5 @@ public class BooklogFeedResponse {
 
     private List<BooklogPostCardResponse> items;
     private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (hasNext=false면 null)
 }
@@ -0,0 +1,38 @@
+package com.example.booklog.domain.booklog.dto;
+
+import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
+import com.example.booklog.global.common.apiPayload.exception.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 keyset 커서 (created_at, id)
+ * 클라이언트에는 "createdAt|id"를 base64url로 인코딩한 불투명 문자열로 전달
+ *
+ * @param createdAt 마지막으로 받은 글의 작성 시각
+ * @param id        마지막으로 받은 글 id (같은 시각 글 순서 보장)
+ */
+public record FeedCursor(LocalDateTime createdAt, Long id) {
+
+    /** 첫 페이지: 모든 글보다 뒤에 있는 가상의 위치 (MySQL DATETIME 최대값) */
+    public static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new FeedCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new GeneralException(ErrorStatus.FEED_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,8 @@ package com.example.booklog.domain.booklog.entity;
 
 import jakarta.persistence.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(
         name = "booklog_bookmark",
@@ -21,14 +23,23 @@ public class BooklogBookmark {
     @Column(name = "post_id", nullable = false)
     private Long postId;
 
+    // 북마크 시각 - 해제 시 랭킹에 가산했던 점수를 그대로 되돌리기 위함 (컬럼 추가 전 북마크는 NULL)
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
     protected BooklogBookmark() {}
 
     private BooklogBookmark(Long userId, Long postId) {
         this.userId = userId;
         this.postId = postId;
+        this.createdAt = LocalDateTime.now();
     }
 
     public static BooklogBookmark of(Long userId, Long postId) {
         return new BooklogBookmark(userId, postId);
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 }
\ No newline at end of file
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @Table(name = "booklog_posts",
         indexes = {
                 @Index(name = "idx_booklog_posts_user_created", columnList = "userId, createdAt"),
-                @Index(name = "idx_booklog_posts_status_created", columnList = "status, createdAt")
+                // 피드 keyset 페이지네이션: (status, created_at, id) 범위 스캔
+                // tag_mask까지 포함해서 태그 필터도 인덱스 안에서 판단 (행 접근 없이)
+                @Index(name = "idx_booklog_posts_feed", columnList = "status, createdAt, id, tagMask")
         })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BooklogPost {
@@ -52,6 +54,10 @@ public class BooklogPost {
     @Column(nullable = false)
     private long bookmarkCount;
 
+    // 태그 비트마스크 (bit = 1 << tag_id, TagRegistry.bitOf) - 피드 태그 필터용 비정규화
+    @Column(nullable = false)
+    private long tagMask;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     @Column(nullable = false)
@@ -75,6 +81,10 @@ public class BooklogPost {
         return new BooklogPost(userId, bookId, title, content); // new를 썼을 때보다 직관적으로 파악하기 좋다.
     }
 
+    public void assignTagMask(long tagMask) {
+        this.tagMask = tagMask;
+    }
+
     @PreUpdate
     public void preUpdate(){
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,28 @@
+package com.example.booklog.domain.booklog.event;
+
+import com.example.booklog.domain.booklog.entity.BooklogStatus;
+
+import java.util.List;
+
+/**
+ * 북로그 글 발행/삭제 이벤트
+ * 커밋된 트랜잭션에서만 반영된다. (BooklogTagBitmapIndex 참고)
+ *
+ * @param postId 대상 글
+ * @param status 변경 후 상태 (PUBLISHED = 발행, DELETED = 삭제)
+ * @param tagIds 글의 태그 (발행 시), 삭제 시 빈 리스트
+ */
+public record BooklogPostStatusEvent(
+        Long postId,
+        BooklogStatus status,
+        List<Long> tagIds
+) {
+
+    public static BooklogPostStatusEvent published(Long postId, List<Long> tagIds) {
+        return new BooklogPostStatusEvent(postId, BooklogStatus.PUBLISHED, tagIds == null ? List.of() : List.copyOf(tagIds));
+    }
+
+    public static BooklogPostStatusEvent deleted(Long postId) {
+        return new BooklogPostStatusEvent(postId, BooklogStatus.DELETED, List.of());
+    }
+}
@@ -2,7 +2,6 @@ package com.example.booklog.domain.booklog.repository;
 
 import com.example.booklog.domain.booklog.entity.BooklogPost;
 import com.example.booklog.domain.booklog.entity.BooklogStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -61,87 +60,69 @@ public interface BooklogPostRepository extends JpaRepository<BooklogPost, Long>
                    @Param("now") LocalDateTime now);
 
 
+    /**
+     * 태그 필터 피드 (OFFSET, 기존 클라이언트용)
+     * 카테고리별 마스크 중 하나라도 tag_mask에 있으면 통과 (카테고리 내 OR), 마스크 0은 필터 없음
+     */
     @Query(
             value = """
     SELECT p.*
     FROM booklog_posts p
     WHERE p.status = 'PUBLISHED'
-      AND (
-        :moodEmpty = true OR EXISTS (
-          SELECT 1
-          FROM booklog_post_tags pt
-          JOIN tags t ON t.tag_id = pt.tag_id
-          WHERE pt.post_id = p.id
-            AND t.category = 'MOOD'
-            AND pt.tag_id IN (:moodIds)
-        )
-      )
-      AND (
-        :styleEmpty = true OR EXISTS (
-          SELECT 1
-          FROM booklog_post_tags pt
-          JOIN tags t ON t.tag_id = pt.tag_id
-          WHERE pt.post_id = p.id
-            AND t.category = 'STYLE'
-            AND pt.tag_id IN (:styleIds)
-        )
-      )
-      AND (
-        :immersionEmpty = true OR EXISTS (
-          SELECT 1
-          FROM booklog_post_tags pt
-          JOIN tags t ON t.tag_id = pt.tag_id
-          WHERE pt.post_id = p.id
-            AND t.category = 'IMMERSION'
-            AND pt.tag_id IN (:immersionIds)
-        )
-      )
-    ORDER BY p.created_at DESC
+      AND (:moodMask = 0 OR (p.tag_mask & :moodMask) <> 0)
+      AND (:styleMask = 0 OR (p.tag_mask & :styleMask) <> 0)
+      AND (:immersionMask = 0 OR (p.tag_mask & :immersionMask) <> 0)
+    ORDER BY p.created_at DESC, p.id DESC
     """,
-            countQuery = """
-    SELECT COUNT(*)
+            nativeQuery = true
+    )
+    Slice<BooklogPost> findPublishedFeedByTagMasks(
+            @Param("moodMask") long moodMask,
+            @Param("styleMask") long styleMask,
+            @Param("immersionMask") long immersionMask,
+            Pageable pageable
+    );
+
+
+    /**
+     * 피드 keyset 조회: (created_at, id)가 커서보다 작은 글을 최신순으로
+     * idx_booklog_posts_feed 범위 스캔 + LIMIT (size+1) → 깊이와 무관하게 일정한 비용, count 없음
+     */
+    @Query("""
+    select p
+    from BooklogPost p
+    where p.status = :status
+      and (p.createdAt < :cursorAt or (p.createdAt = :cursorAt and p.id < :cursorId))
+    order by p.createdAt desc, p.id desc
+""")
+    List<BooklogPost> findFeedAfter(@Param("status") BooklogStatus status,
+                                    @Param("cursorAt") LocalDateTime cursorAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    /**
+     * 태그 필터 피드 keyset 조회 (조건은 findPublishedFeedByTagMasks와 동일)
+     * tag_mask가 idx_booklog_posts_feed에 포함되어 있어 필터도 인덱스 안에서 처리
+     */
+    @Query(
+            value = """
+    SELECT p.*
     FROM booklog_posts p
     WHERE p.status = 'PUBLISHED'
-      AND (
-        :moodEmpty = true OR EXISTS (
-          SELECT 1
-          FROM booklog_post_tags pt
-          JOIN tags t ON t.tag_id = pt.tag_id
-          WHERE pt.post_id = p.id
-            AND t.category = 'MOOD'
-            AND pt.tag_id IN (:moodIds)
-        )
-      )
-      AND (
-        :styleEmpty = true OR EXISTS (
-          SELECT 1
-          FROM booklog_post_tags pt
-          JOIN tags t ON t.tag_id = pt.tag_id
-          WHERE pt.post_id = p.id
-            AND t.category = 'STYLE'
-            AND pt.tag_id IN (:styleIds)
-        )
-      )
-      AND (
-        :immersionEmpty = true OR EXISTS (
-          SELECT 1
-          FROM booklog_post_tags pt
-          JOIN tags t ON t.tag_id = pt.tag_id
-          WHERE pt.post_id = p.id
-            AND t.category = 'IMMERSION'
-            AND pt.tag_id IN (:immersionIds)
-        )
-      )
+      AND (p.created_at < :cursorAt OR (p.created_at = :cursorAt AND p.id < :cursorId))
+      AND (:moodMask = 0 OR (p.tag_mask & :moodMask) <> 0)
+      AND (:styleMask = 0 OR (p.tag_mask & :styleMask) <> 0)
+      AND (:immersionMask = 0 OR (p.tag_mask & :immersionMask) <> 0)
+    ORDER BY p.created_at DESC, p.id DESC
     """,
             nativeQuery = true
     )
-    Page<BooklogPost> findPublishedFeedByTagFilters(
-            @Param("moodEmpty") boolean moodEmpty,
-            @Param("moodIds") List<Long> moodIds,
-            @Param("styleEmpty") boolean styleEmpty,
-            @Param("styleIds") List<Long> styleIds,
-            @Param("immersionEmpty") boolean immersionEmpty,
-            @Param("immersionIds") List<Long> immersionIds,
+    List<BooklogPost> findPublishedFeedByTagMasksAfter(
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            @Param("moodMask") long moodMask,
+            @Param("styleMask") long styleMask,
+            @Param("immersionMask") long immersionMask,
             Pageable pageable
     );
 
@@ -5,22 +5,28 @@ import com.example.booklog.domain.booklog.converter.BooklogFeedConverter;
 import com.example.booklog.domain.booklog.converter.BooklogPostConverter;
 import com.example.booklog.domain.booklog.dto.*;
 import com.example.booklog.domain.booklog.entity.*;
+import com.example.booklog.domain.booklog.event.BooklogPostStatusEvent;
 import com.example.booklog.domain.booklog.repository.*;
 import com.example.booklog.domain.booklog.view.AuthorView;
 import com.example.booklog.domain.booklog.view.BookView;
 import com.example.booklog.domain.booklog.view.PostImageView;
 import com.example.booklog.domain.booklog.view.TagView;
+import com.example.booklog.domain.ranking.event.ActivityType;
+import com.example.booklog.domain.ranking.event.BookActivityEvent;
 import com.example.booklog.domain.tags.entity.TagCategory;
-import com.example.booklog.domain.tags.repository.TagsRepository;
+import com.example.booklog.domain.tags.service.TagRegistry;
 import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
 import com.example.booklog.global.common.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,11 +34,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BooklogPostServiceImpl implements BooklogPostService {
 
-    private final TagsRepository tagsRepository;
+    private final TagRegistry tagRegistry;
     private final BooklogPostRepository postRepository;
     private final BooklogPostImageRepository postImageRepository;
     private final BooklogPostTagRepository postTagRepository;
-    private final ViewLogRepository viewLogRepository;
+    private final BooklogViewTracker viewTracker;
     private final BooklogBookmarkRepository bookmarkRepository;
 
     private final BooklogReadFacade booklogReadFacade;
@@ -41,6 +47,8 @@ public class BooklogPostServiceImpl implements BooklogPostService {
     private final BooklogFeedConverter feedConverter;
     private final BooklogDetailConverter detailConverter;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     // 1) 게시글 발행
     @Transactional
     @Override
@@ -52,13 +60,16 @@ public class BooklogPostServiceImpl implements BooklogPostService {
         validateBooklogTagRules(tagIds);
         validateImageLimit(imageUrls);
 
-        BooklogPost saved = postRepository.save(
-                postConverter.toEntityForCreate(userId, request)
-        );
+        BooklogPost post = postConverter.toEntityForCreate(userId, request);
+        post.assignTagMask(tagRegistry.maskOf(tagIds));
+        BooklogPost saved = postRepository.save(post);
 
         savePostTags(saved.getId(), tagIds);
         savePostImages(saved.getId(), imageUrls);
 
+        eventPublisher.publishEvent(BookActivityEvent.of(saved.getBookId(), ActivityType.POST_PUBLISHED, tagIds));
+        eventPublisher.publishEvent(BooklogPostStatusEvent.published(saved.getId(), tagIds));
+
         return postConverter.toCreateResponse(saved.getId());
     }
 
@@ -67,15 +78,15 @@ public class BooklogPostServiceImpl implements BooklogPostService {
             throw new GeneralException(ErrorStatus.TAG_MIN_ONE_REQUIRED);
         }
 
-        var tags = tagsRepository.findAllById(tagIds);
+        var tags = tagRegistry.findAll(tagIds.stream().distinct().toList());
 
         if (tags.size() != tagIds.size()) {
             throw new GeneralException(ErrorStatus.TAG_NOT_FOUND_INCLUDED);
         }
 
-        long moodCount = tags.stream().filter(t -> t.getCategory() == TagCategory.MOOD).count();
-        long styleCount = tags.stream().filter(t -> t.getCategory() == TagCategory.STYLE).count();
-        long immersionCount = tags.stream().filter(t -> t.getCategory() == TagCategory.IMMERSION).count();
+        long moodCount = tags.stream().filter(t -> t.category() == TagCategory.MOOD).count();
+        long styleCount = tags.stream().filter(t -> t.category() == TagCategory.STYLE).count();
+        long immersionCount = tags.stream().filter(t -> t.category() == TagCategory.IMMERSION).count();
 
         if (moodCount < 1 || moodCount > 2) throw new GeneralException(ErrorStatus.MOOD_TAG_COUNT_INVALID);
         if (styleCount < 1 || styleCount > 2) throw new GeneralException(ErrorStatus.STYLE_TAG_COUNT_INVALID);
@@ -111,7 +122,7 @@ public class BooklogPostServiceImpl implements BooklogPostService {
     }
 
     /**
-     * 2) 피드 조회 (Slice + 드롭다운 필터)
+     * 2) 피드 조회 (keyset 커서 + 드롭다운 필터)
      * - 성능: images/tags/bookmarkCount는 배치 조회
      */
     @Override
@@ -122,7 +133,7 @@ public class BooklogPostServiceImpl implements BooklogPostService {
         List<BooklogPost> posts = slice.getContent();
 
         if (posts.isEmpty()) {
-            return feedConverter.toFeedResponse(List.of(), slice.hasNext());
+            return feedConverter.toFeedResponse(List.of(), false, null);
         }
 
         List<Long> postIds = posts.stream().map(BooklogPost::getId).toList();
@@ -185,27 +196,27 @@ public class BooklogPostServiceImpl implements BooklogPostService {
             ));
         }
 
-        return feedConverter.toFeedResponse(cards, slice.hasNext());
+        BooklogPost last = posts.get(posts.size() - 1);
+        String nextCursor = slice.hasNext() ? new FeedCursor(last.getCreatedAt(), last.getId()).encode() : null;
+        return feedConverter.toFeedResponse(cards, slice.hasNext(), nextCursor);
     }
 
 
     /**
      * 3) 상세 조회
      * - post.status=PUBLISHED 확인
-     * - 조회수 +1 (update query)
+     * - 조회수 +1 / 조회 로그는 BooklogViewTracker에 기록 (주기적으로 DB 반영, 여기서는 DB 쓰기 없음)
      * - bookmarkCount/북마크여부/이미지/태그/책/작성자 조립
      */
     @Override
-    @Transactional // 조회수 증가 때문에 readOnly면 안 됨
+    @Transactional(readOnly = true)
     public BooklogDetailResponse getDetail(Long userId, Long postId) {
 
         BooklogPost post = postRepository.findByIdAndStatus(postId, BooklogStatus.PUBLISHED)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.POST_NOT_FOUND));
 
-        // 조회수 +1
-        postRepository.increaseViewCount(postId, BooklogStatus.PUBLISHED);
-        // (선택) view log 저장
-        viewLogRepository.save(ViewLog.of(postId, userId));
+        // 조회수 +1, 조회 로그 (write-behind) - 랭킹은 사용자별 dedupe 구간 내 첫 조회만 반영
+        boolean firstView = viewTracker.record(postId, userId);
 
         // 이미지
         List<PostImageView> images = postImageRepository.findByPostIdOrderByDisplayOrderAsc(postId);
@@ -213,6 +224,11 @@ public class BooklogPostServiceImpl implements BooklogPostService {
         // 태그
         List<? extends TagView> tags = booklogReadFacade.findTagsByPostId(postId);
 
+        if (firstView) {
+            eventPublisher.publishEvent(BookActivityEvent.of(post.getBookId(), ActivityType.POST_VIEWED,
+                    tags.stream().map(TagView::getTagId).toList()));
+        }
+
         // 작성자/책
         AuthorView author = booklogReadFacade.findAuthorDetail(post.getUserId(), userId);
         BookView book = booklogReadFacade.findBook(post.getBookId());
@@ -220,8 +236,8 @@ public class BooklogPostServiceImpl implements BooklogPostService {
         boolean bookmarkedByMe = booklogReadFacade.isBookmarkedByMe(userId, postId);
         long bookmarkCount = post.getBookmarkCount();
 
-        // viewCount는 증가 쿼리 후 다시 조회 안 하고, 화면 반영만 필요하면 +1 처리
-        long viewCount = post.getViewCount() + 1;
+        // DB 값 + 아직 반영 전인 증가분 (방금 조회 포함)
+        long viewCount = post.getViewCount() + viewTracker.pendingCount(postId);
 
         return detailConverter.toDetail(
                 postId,
@@ -270,6 +286,8 @@ public class BooklogPostServiceImpl implements BooklogPostService {
         if (updated == 0) {
             throw new GeneralException(ErrorStatus.POST_ALREADY_DELETED_OR_CANNOT_DELETE);
         }
+
+        eventPublisher.publishEvent(BooklogPostStatusEvent.deleted(postId));
     }
 
     @Override
@@ -287,6 +305,7 @@ public class BooklogPostServiceImpl implements BooklogPostService {
             // 북마크 해제
             bookmarkRepository.delete(existing.get());
             postRepository.decreaseBookmarkCount(postId, BooklogStatus.PUBLISHED, LocalDateTime.now());
+            publishBookmarkActivity(post, existing.get(), ActivityType.BOOKMARK_REMOVED);
 
             // count 쿼리 없이 엔티티 값 기반으로 응답 (주의: 영속성 컨텍스트에 남아있을 수 있어 +1/-1만 반영)
             long count = Optional.ofNullable(
@@ -301,8 +320,9 @@ public class BooklogPostServiceImpl implements BooklogPostService {
 
         // 3) 없으면 북마크 생성 (동시성: unique 충돌 가능)
         try {
-            bookmarkRepository.save(BooklogBookmark.of(userId, postId));
+            BooklogBookmark bookmark = bookmarkRepository.save(BooklogBookmark.of(userId, postId));
             postRepository.increaseBookmarkCount(postId, BooklogStatus.PUBLISHED, LocalDateTime.now());
+            publishBookmarkActivity(post, bookmark, ActivityType.BOOKMARK_ADDED);
 
             long count = Optional.ofNullable(
                     postRepository.findBookmarkCount(postId, BooklogStatus.PUBLISHED)
@@ -320,6 +340,7 @@ public class BooklogPostServiceImpl implements BooklogPostService {
             if (insertedByOther.isPresent()) {
                 bookmarkRepository.delete(insertedByOther.get());
                 postRepository.decreaseBookmarkCount(postId, BooklogStatus.PUBLISHED, LocalDateTime.now());
+                publishBookmarkActivity(post, insertedByOther.get(), ActivityType.BOOKMARK_REMOVED);
                 long count = Optional.ofNullable(
                         postRepository.findBookmarkCount(postId, BooklogStatus.PUBLISHED)
                 ).orElse(0L);
@@ -333,4 +354,19 @@ public class BooklogPostServiceImpl implements BooklogPostService {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    // 북마크 추가/해제를 게시글의 책 + 태그 랭킹에 반영 (커밋 후 반영)
+    // 둘 다 북마크 시각 기준으로 보내서 해제가 추가 때 가산분을 정확히 상쇄 (토글 반복해도 점수 변화 0)
+    // 시각을 모르는 예전 북마크(created_at NULL)는 상쇄할 값을 알 수 없으므로 생략 (음수로 남지 않도록)
+    private void publishBookmarkActivity(BooklogPost post, BooklogBookmark bookmark, ActivityType type) {
+        if (bookmark.getCreatedAt() == null) return;
+        Instant bookmarkedAt = bookmark.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        eventPublisher.publishEvent(BookActivityEvent.of(post.getBookId(), type, findTagIds(post), bookmarkedAt));
+    }
+
+    private List<Long> findTagIds(BooklogPost post) {
+        return postTagRepository.findAllByPostId(post.getId()).stream()
+                .map(BooklogPostTag::getTagId)
+                .toList();
+    }
+}
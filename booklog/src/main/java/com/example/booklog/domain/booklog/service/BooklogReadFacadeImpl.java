@@ -3,6 +3,7 @@ package com.example.booklog.domain.booklog.service;
 import com.example.booklog.domain.booklog.converter.BooklogRecommendationConverter;
 import com.example.booklog.domain.booklog.dto.BooklogFeedQuery;
 import com.example.booklog.domain.booklog.dto.BooklogRecommendationResponse;
+import com.example.booklog.domain.booklog.dto.FeedCursor;
 import com.example.booklog.domain.booklog.entity.BooklogPost;
 import com.example.booklog.domain.booklog.entity.BooklogStatus;
 import com.example.booklog.domain.booklog.entity.BooklogPostTag;
@@ -16,13 +17,15 @@ import com.example.booklog.domain.booklog.view.AuthorView;
 import com.example.booklog.domain.booklog.view.BookView;
 import com.example.booklog.domain.booklog.view.SimilarBookAggView;
 import com.example.booklog.domain.booklog.view.TagView;
-import com.example.booklog.domain.tags.entity.Tags;
-import com.example.booklog.domain.tags.repository.TagsRepository;
+import com.example.booklog.domain.tags.entity.TagCategory;
+import com.example.booklog.domain.tags.service.TagRegistry;
 import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
 import com.example.booklog.global.common.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -34,7 +37,8 @@ public class BooklogReadFacadeImpl implements BooklogReadFacade {
 
     private final BooklogPostRepository postRepository;
     private final BooklogPostTagRepository postTagRepository;
-    private final TagsRepository tagsRepository;
+    private final TagRegistry tagRegistry;
+    private final BooklogTagBitmapIndex tagBitmapIndex;
     private final BooklogBookmarkRepository bookmarkRepository;
 
     private final BooklogRecommendationConverter recommendationConverter;
@@ -82,21 +86,14 @@ public class BooklogReadFacadeImpl implements BooklogReadFacade {
     public List<TagView> findTagsByTagIds(List<Long> tagIds) {
         if (tagIds == null || tagIds.isEmpty()) return List.of();
 
-        List<Tags> tags = tagsRepository.findAllById(tagIds);
-
-        Map<Long, Tags> tagMap = tags.stream()
-                .collect(Collectors.toMap(Tags::getId, t -> t));
-
+        // 태그 사전(메모리)에서 조회 - 쿼리 없음
         List<TagView> result = new ArrayList<>();
-        for (Long id : tagIds) {
-            Tags t = tagMap.get(id);
-            if (t != null) {
-                result.add(new SimpleTagView(
-                        t.getId(),
-                        t.getName(),
-                        String.valueOf(t.getCategory())
-                ));
-            }
+        for (TagRegistry.TagEntry t : tagRegistry.findAll(tagIds)) {
+            result.add(new SimpleTagView(
+                    t.id(),
+                    t.name(),
+                    String.valueOf(t.category())
+            ));
         }
         return result;
     }
@@ -110,6 +107,11 @@ public class BooklogReadFacadeImpl implements BooklogReadFacade {
      * 드롭다운 필터 적용:
      * - 카테고리 내 OR
      * - 카테고리 간 AND
+     * - keyset은 BooklogTagBitmapIndex(인메모리) 우선, 나머지는 booklog_posts.tag_mask 비트 연산 (태그 조인/EXISTS 없음)
+     *
+     * 페이지 방식:
+     * - cursor가 있거나 첫 페이지면 keyset((created_at, id) < 커서), size+1개 조회로 hasNext 판단
+     * - cursor 없이 page>0을 보내는 기존 클라이언트만 OFFSET (count 쿼리는 없음)
      */
     @Override
     public Slice<BooklogPost> findFeedPostsSlice(BooklogFeedQuery query, Pageable pageable) {
@@ -118,22 +120,105 @@ public class BooklogReadFacadeImpl implements BooklogReadFacade {
         List<Long> style = (query == null) ? List.of() : safeList(query.getStyleTagIds());
         List<Long> immersion = (query == null) ? List.of() : safeList(query.getImmersionTagIds());
 
-        boolean moodEmpty = mood.isEmpty();
-        boolean styleEmpty = style.isEmpty();
-        boolean immersionEmpty = immersion.isEmpty();
+        // 카테고리별 비트마스크 (0 = 필터 없음)
+        long moodMask = tagRegistry.maskOf(TagCategory.MOOD, mood);
+        long styleMask = tagRegistry.maskOf(TagCategory.STYLE, style);
+        long immersionMask = tagRegistry.maskOf(TagCategory.IMMERSION, immersion);
+
+        // 선택은 했는데 해당 카테고리의 태그가 하나도 없으면 매칭되는 글도 없음
+        if ((!mood.isEmpty() && moodMask == 0)
+                || (!style.isEmpty() && styleMask == 0)
+                || (!immersion.isEmpty() && immersionMask == 0)) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        boolean noFilter = moodMask == 0 && styleMask == 0 && immersionMask == 0;
+
+        String cursor = (query == null) ? null : query.getCursor();
+        if (cursor == null && pageable.getPageNumber() > 0) {
+            if (noFilter) {
+                return postRepository.findAllByStatusOrderByCreatedAtDesc(BooklogStatus.PUBLISHED, pageable);
+            }
+            return postRepository.findPublishedFeedByTagMasks(moodMask, styleMask, immersionMask, pageable);
+        }
+
+        FeedCursor after = FeedCursor.decode(cursor);
+        int size = pageable.getPageSize();
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        if (noFilter) {
+            return toSlice(postRepository.findFeedAfter(BooklogStatus.PUBLISHED, after.createdAt(), after.id(), limit), size);
+        }
 
-        if (moodEmpty && styleEmpty && immersionEmpty) {
-            return postRepository.findAllByStatusOrderByCreatedAtDesc(BooklogStatus.PUBLISHED, pageable);
+        // 태그 필터는 인메모리 비트맵 인덱스에서 페이지 id를 고르고 해당 행만 조회
+        // (id 순서 = 작성 순서, 인덱스 구성 전이면 tag_mask SQL로)
+        List<List<Long>> groups = List.of(
+                idsIn(TagCategory.MOOD, mood),
+                idsIn(TagCategory.STYLE, style),
+                idsIn(TagCategory.IMMERSION, immersion)
+        ).stream().filter(g -> !g.isEmpty()).toList();
+
+        Optional<List<BooklogPost>> indexed = findFeedByTagIndex(groups, after.id(), size);
+        if (indexed.isPresent()) {
+            return toSlice(indexed.get(), size);
         }
 
-        var page = postRepository.findPublishedFeedByTagFilters(
-                moodEmpty, moodEmpty ? List.of(-1L) : mood,      // IN () 방지용 더미
-                styleEmpty, styleEmpty ? List.of(-1L) : style,
-                immersionEmpty, immersionEmpty ? List.of(-1L) : immersion,
-                pageable
-        );
+        return toSlice(postRepository.findPublishedFeedByTagMasksAfter(
+                after.createdAt(), after.id(), moodMask, styleMask, immersionMask, limit), size);
+    }
+
+    private Slice<BooklogPost> toSlice(List<BooklogPost> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<BooklogPost> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
 
-        return page; // Page는 Slice를 상속하므로 그대로 반환 가능
+    private List<Long> idsIn(TagCategory category, List<Long> tagIds) {
+        return tagRegistry.findAll(tagIds).stream()
+                .filter(t -> t.category() == category)
+                .map(TagRegistry.TagEntry::id)
+                .toList();
+    }
+
+    /**
+     * 비트맵 인덱스로 beforeId 미만의 발행 글을 size+1개까지 (id 내림차순)
+     * 다른 노드에서 삭제된 글이 섞여 있으면 인덱스에서 빼고 모자란 만큼 이어서 더 찾음
+     * (빠진 글 때문에 페이지가 짧거나 비어 피드가 일찍 끝나지 않도록)
+     * 인덱스가 준비되지 않았으면 Optional.empty()
+     */
+    private Optional<List<BooklogPost>> findFeedByTagIndex(List<List<Long>> groups, long beforeId, int size) {
+        List<BooklogPost> live = new ArrayList<>();
+        long before = beforeId;
+        while (live.size() <= size) {
+            int want = size + 1 - live.size();
+            Optional<List<Long>> pageIds = tagBitmapIndex.findIdsBefore(groups, before, want);
+            if (pageIds.isEmpty()) {
+                return live.isEmpty() ? Optional.empty() : Optional.of(live);
+            }
+            List<Long> ids = pageIds.get();
+            if (ids.isEmpty()) break;
+
+            List<BooklogPost> found = findPublishedInOrder(ids);
+            if (found.size() < ids.size()) {
+                Set<Long> foundIds = found.stream().map(BooklogPost::getId).collect(Collectors.toSet());
+                tagBitmapIndex.removeStale(ids.stream().filter(id -> !foundIds.contains(id)).toList());
+            }
+            live.addAll(found);
+
+            if (ids.size() < want) break; // 인덱스 끝
+            before = ids.get(ids.size() - 1);
+        }
+        return Optional.of(live);
+    }
+
+    /** id 순서 유지, 그 사이 삭제된 글은 제외 */
+    private List<BooklogPost> findPublishedInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, BooklogPost> byId = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BooklogPost::getId, p -> p));
+        return ids.stream()
+                .map(byId::get)
+                .filter(p -> p != null && p.getStatus() == BooklogStatus.PUBLISHED)
+                .toList();
     }
 
     private List<Long> safeList(List<Long> v) {
@@ -0,0 +1,257 @@
+package com.example.booklog.domain.booklog.service;
+
+import com.example.booklog.domain.booklog.entity.BooklogStatus;
+import com.example.booklog.domain.booklog.event.BooklogPostStatusEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 → 발행된 글 id 역색인 (압축 비트맵, 노드별 인메모리)
+ *
+ * [동작 방식]
+ * 1. 기동 시 booklog_post_tags(발행 글만)를 읽어 태그별 RoaringBitmap 구성 (백그라운드)
+ * 2. 이 노드의 발행/삭제는 커밋 후 BooklogPostStatusEvent로 즉시 반영
+ * 3. 다른 노드에서 발행된 글은 주기적으로 마지막으로 읽은 id - catch-up-lookback-ids 이후를 다시 읽어 반영
+ *    id는 INSERT 순서로 정해지지만 커밋은 순서가 바뀔 수 있어, 읽을 때 아직 커밋 안 된 작은 id를 다음 주기에 줍기 위함
+ *    (같은 글을 다시 읽어도 비트맵 OR라 결과는 같음)
+ *    같은 구간에서 더 이상 PUBLISHED가 아닌 글은 비트맵에서 뺌
+ * 4. 그보다 오래된 글이 다른 노드에서 삭제된 경우는 피드가 행을 조회하다 발견하면 removeStale로 뺌
+ *
+ * 조회: 카테고리 내 OR(합집합), 카테고리 간 AND(교집합) 후 id 내림차순으로 limit개
+ * 구성 전이거나 비활성화면 Optional.empty() → 호출 측은 SQL(tag_mask)로 처리
+ *
+ * id는 unsigned 32비트까지만 담는다. 넘는 id가 나오면 인덱스를 끄고 SQL로 되돌림.
+ */
+@Slf4j
+@Component
+public class BooklogTagBitmapIndex {
+
+    private static final long MAX_ID = 0xFFFFFFFFL;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor executor;
+    private final boolean enabled;
+    private final long catchUpLookbackIds;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock으로 보호
+    private Map<Long, RoaringBitmap> byTag = new HashMap<>();
+    private boolean ready = false;
+    private boolean building = false;
+    private final RoaringBitmap deletedWhileBuilding = new RoaringBitmap();
+    private long watermark = 0;
+
+    public BooklogTagBitmapIndex(JdbcTemplate jdbcTemplate,
+                                 @Qualifier("feedIndexExecutor") TaskExecutor executor,
+                                 @Value("${booklog.tag-index.enabled:true}") boolean enabled,
+                                 @Value("${booklog.tag-index.catch-up-lookback-ids:1000}") long catchUpLookbackIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.catchUpLookbackIds = Math.max(0, catchUpLookbackIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) return;
+        executor.execute(() -> {
+            try {
+                build();
+            } catch (Exception e) {
+                log.warn("북로그 태그 인덱스 구성 실패 (SQL 필터로 동작): {}", e.getMessage());
+                withWriteLock(() -> building = false);
+            }
+        });
+    }
+
+    /**
+     * 태그 그룹별 OR, 그룹 간 AND를 만족하는 글 id를 beforeId 미만에서 내림차순으로 limit개
+     *
+     * @param groups 카테고리별 태그 id (빈 그룹은 호출 전에 제외)
+     */
+    public Optional<List<Long>> findIdsBefore(List<? extends Collection<Long>> groups, long beforeId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!ready) return Optional.empty();
+
+            RoaringBitmap matched = null;
+            for (Collection<Long> group : groups) {
+                RoaringBitmap union = FastAggregation.or(group.stream()
+                        .distinct()
+                        .map(byTag::get)
+                        .filter(Objects::nonNull)
+                        .iterator());
+                matched = (matched == null) ? union : RoaringBitmap.and(matched, union);
+                if (matched.isEmpty()) return Optional.of(List.of());
+            }
+            if (matched == null) return Optional.of(List.of());
+
+            if (beforeId <= MAX_ID) {
+                matched.remove(Math.max(beforeId, 0), MAX_ID + 1);
+            }
+
+            List<Long> ids = new ArrayList<>(limit);
+            IntIterator it = matched.getReverseIntIterator();
+            while (it.hasNext() && ids.size() < limit) {
+                ids.add(Integer.toUnsignedLong(it.next()));
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostStatus(BooklogPostStatusEvent event) {
+        if (!enabled || event.postId() == null) return;
+
+        withWriteLock(() -> {
+            if (event.status() == BooklogStatus.PUBLISHED) {
+                add(byTag, event.postId(), event.tagIds());
+            } else {
+                removeEverywhere(event.postId());
+            }
+        });
+    }
+
+    /** 피드 조회 중 발견한 삭제(비발행) 글 제거 */
+    public void removeStale(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        withWriteLock(() -> postIds.forEach(this::removeEverywhere));
+    }
+
+    /** 다른 노드에서 발행/삭제된 글 반영 */
+    @Scheduled(
+            fixedDelayString = "${booklog.tag-index.catch-up-millis:30000}",
+            initialDelayString = "${booklog.tag-index.catch-up-millis:30000}"
+    )
+    public void catchUp() {
+        long from;
+        lock.readLock().lock();
+        try {
+            if (!ready) return;
+            from = Math.max(0, watermark - catchUpLookbackIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, RoaringBitmap> loaded = new HashMap<>();
+        long max = load(loaded, from);
+        if (max < 0) return;
+
+        List<Long> unpublished = jdbcTemplate.queryForList(
+                "SELECT id FROM booklog_posts WHERE id > ? AND id <= ? AND status <> 'PUBLISHED'",
+                Long.class, from, max);
+
+        withWriteLock(() -> {
+            loaded.forEach((tagId, bitmap) -> byTag.computeIfAbsent(tagId, k -> new RoaringBitmap()).or(bitmap));
+            unpublished.forEach(this::removeEverywhere);
+            watermark = Math.max(watermark, max);
+        });
+    }
+
+    private void build() {
+        withWriteLock(() -> {
+            building = true;
+            deletedWhileBuilding.clear();
+        });
+
+        Map<Long, RoaringBitmap> loaded = new HashMap<>();
+        long max = load(loaded, 0);
+        if (max < 0) {
+            withWriteLock(() -> building = false);
+            return;
+        }
+
+        withWriteLock(() -> {
+            // 구성 중 들어온 이벤트 합치기: 발행은 byTag에 이미 쌓여 있고, 삭제는 따로 모아둔 것 제외
+            byTag.forEach((tagId, bitmap) -> loaded.computeIfAbsent(tagId, k -> new RoaringBitmap()).or(bitmap));
+            loaded.values().forEach(b -> {
+                b.andNot(deletedWhileBuilding);
+                b.runOptimize();
+            });
+            byTag = loaded;
+            watermark = max;
+            building = false;
+            ready = true;
+        });
+
+        long postings = loaded.values().stream().mapToLong(RoaringBitmap::getLongCardinality).sum();
+        long bytes = loaded.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+        log.info("🏷️ 북로그 태그 인덱스 구성 완료 - 태그 {}개, 매핑 {}건, 약 {}KB", loaded.size(), postings, bytes / 1024);
+    }
+
+    /**
+     * afterId보다 큰 발행 글의 태그 매핑을 읽어 target에 추가
+     * @return 이번에 본 가장 큰 글 id (범위를 넘는 id가 있으면 -1, 인덱스 비활성화)
+     */
+    private long load(Map<Long, RoaringBitmap> target, long afterId) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM booklog_posts", Long.class);
+        if (maxId == null || maxId <= afterId) return afterId;
+        if (maxId > MAX_ID) {
+            log.warn("북로그 글 id가 인덱스 범위를 넘음 - 태그 인덱스 비활성화 (SQL 필터로 동작)");
+            withWriteLock(() -> {
+                ready = false;
+                byTag = new HashMap<>();
+            });
+            return -1;
+        }
+
+        jdbcTemplate.query("""
+                SELECT pt.post_id, pt.tag_id
+                FROM booklog_post_tags pt
+                JOIN booklog_posts p ON p.id = pt.post_id
+                WHERE p.status = 'PUBLISHED' AND pt.post_id > ? AND pt.post_id <= ?
+                """,
+                rs -> {
+                    target.computeIfAbsent(rs.getLong("tag_id"), k -> new RoaringBitmap())
+                            .add((int) rs.getLong("post_id"));
+                },
+                afterId, maxId);
+        return maxId;
+    }
+
+    private void add(Map<Long, RoaringBitmap> target, Long postId, Collection<Long> tagIds) {
+        if (postId > MAX_ID) return;
+        for (Long tagId : tagIds) {
+            target.computeIfAbsent(tagId, k -> new RoaringBitmap()).add(postId.intValue());
+        }
+    }
+
+    private void removeEverywhere(Long postId) {
+        if (postId > MAX_ID) return;
+        int id = postId.intValue();
+        byTag.values().forEach(b -> b.remove(id));
+        if (building) deletedWhileBuilding.add(id);
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.booklog.domain.booklog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * booklog_posts.tag_mask 채우기 (기동 시 1회, 백그라운드)
+ *
+ * 컬럼 추가 전에 작성된 글은 tag_mask가 0이므로 booklog_post_tags에서 다시 계산한다.
+ * 비트 위치 = tag_id (TagRegistry.bitOf와 동일, 1~62만)
+ * id 순으로 batch-size개씩 범위 UPDATE, 이미 채워진 글(tag_mask <> 0)은 건드리지 않음.
+ * 태그 없는 글은 0 그대로라 다음 기동 때 다시 훑지만 조인 대상이 없어 비용은 작다.
+ */
+@Slf4j
+@Service
+public class BooklogTagMaskBackfillService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor executor;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public BooklogTagMaskBackfillService(JdbcTemplate jdbcTemplate,
+                                         @Qualifier("feedIndexExecutor") TaskExecutor executor,
+                                         @Value("${booklog.tag-mask.backfill.enabled:true}") boolean enabled,
+                                         @Value("${booklog.tag-mask.backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) return;
+        executor.execute(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                log.warn("북로그 태그 마스크 채우기 실패 (다음 기동 시 이어서 진행): {}", e.getMessage());
+            }
+        });
+    }
+
+    private void backfill() {
+        long lastId = 0;
+        long updated = 0;
+
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM booklog_posts WHERE id > ? AND tag_mask = 0 ORDER BY id LIMIT ?",
+                    Long.class, lastId, batchSize);
+            if (ids.isEmpty()) break;
+            long from = ids.get(0);
+            long to = ids.get(ids.size() - 1);
+
+            // 단일 UPDATE라 배치마다 자체 트랜잭션
+            updated += jdbcTemplate.update("""
+                    UPDATE booklog_posts p
+                    JOIN (
+                        SELECT post_id, BIT_OR(1 << tag_id) AS mask
+                        FROM booklog_post_tags
+                        WHERE post_id BETWEEN ? AND ? AND tag_id BETWEEN 1 AND 62
+                        GROUP BY post_id
+                    ) m ON m.post_id = p.id
+                    SET p.tag_mask = m.mask
+                    WHERE p.tag_mask = 0
+                    """, from, to);
+            lastId = to;
+        }
+
+        if (updated > 0) {
+            log.info("🏷️ 북로그 태그 마스크 채우기 완료 - {}건", updated);
+        }
+    }
+}
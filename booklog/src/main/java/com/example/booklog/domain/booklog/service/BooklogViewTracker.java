@@ -0,0 +1,177 @@
+package com.example.booklog.domain.booklog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 북로그 조회수/조회 로그 write-behind
+ *
+ * [동작 방식]
+ * 1. 상세 조회 시 DB에 쓰지 않고 메모리에만 기록 (글별 증가분 + 조회 로그 큐)
+ * 2. flush-millis마다 글별 증가분을 합쳐 view_count에 한 번씩 더함 (batch UPDATE)
+ * 3. 조회 로그는 큐에서 꺼내 log-batch-size개씩 batch INSERT
+ *
+ * 인기 글에 조회가 몰려도 DB에는 주기당 UPDATE 1건 → 같은 행 락 경합 없음
+ * 증가분은 ConcurrentHashMap.merge/remove로 원자적으로 쌓고 꺼냄 (빠지는 조회 없음)
+ * 반영 실패 시 증가분은 다시 쌓아 다음 주기에 재시도, 로그는 버림 (부가 정보)
+ * 종료 시 남은 것 한 번 더 반영. 비정상 종료 시 마지막 주기분은 유실될 수 있음
+ *
+ * 랭킹(POST_VIEWED)용 dedupe: 같은 사용자의 같은 글 조회는 rank-dedupe-minutes 안에서 첫 번째만 true
+ * (노드별 메모리, rank-dedupe-max-entries를 넘으면 새 조회는 랭킹에 반영하지 않음)
+ *
+ * 지표: booklog.view.flushed{type=count|log}, booklog.view.log.dropped (큐가 가득 차 버린 로그)
+ */
+@Slf4j
+@Component
+public class BooklogViewTracker {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int logBatchSize;
+
+    private final long rankDedupeMillis;
+    private final int rankDedupeMaxEntries;
+
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    // (글, 사용자) → dedupe 만료 시각 (epoch millis)
+    private final ConcurrentHashMap<ViewerKey, Long> recentViewers = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingViewLog> pendingLogs;
+
+    private final Counter countFlushed;
+    private final Counter logFlushed;
+    private final Counter logDropped;
+
+    public BooklogViewTracker(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${booklog.view-tracking.log-queue-capacity:100000}") int logQueueCapacity,
+                              @Value("${booklog.view-tracking.log-batch-size:500}") int logBatchSize,
+                              @Value("${booklog.view-tracking.rank-dedupe-minutes:1440}") long rankDedupeMinutes,
+                              @Value("${booklog.view-tracking.rank-dedupe-max-entries:200000}") int rankDedupeMaxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rankDedupeMillis = TimeUnit.MINUTES.toMillis(Math.max(1, rankDedupeMinutes));
+        this.rankDedupeMaxEntries = Math.max(1, rankDedupeMaxEntries);
+        this.logBatchSize = Math.max(1, logBatchSize);
+        this.pendingLogs = new LinkedBlockingQueue<>(Math.max(1, logQueueCapacity));
+        this.countFlushed = Counter.builder("booklog.view.flushed")
+                .description("DB에 반영된 조회수 증가분")
+                .tag("type", "count")
+                .register(meterRegistry);
+        this.logFlushed = Counter.builder("booklog.view.flushed")
+                .description("DB에 저장된 조회 로그 수")
+                .tag("type", "log")
+                .register(meterRegistry);
+        this.logDropped = Counter.builder("booklog.view.log.dropped")
+                .description("큐가 가득 차 저장하지 못한 조회 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1건 기록 (DB 접근 없음)
+     * @return 랭킹에 반영할 조회인지 (이 사용자의 이 글 조회가 dedupe 구간 내 처음인 경우)
+     */
+    public boolean record(Long postId, Long userId) {
+        if (postId == null) return false;
+        pendingCounts.merge(postId, 1L, Long::sum);
+
+        if (userId == null) return false;
+        if (!pendingLogs.offer(new PendingViewLog(postId, userId, LocalDateTime.now()))) {
+            logDropped.increment();
+        }
+        return isFirstViewForRanking(new ViewerKey(postId, userId));
+    }
+
+    private boolean isFirstViewForRanking(ViewerKey key) {
+        long now = System.currentTimeMillis();
+        Long expiresAt = recentViewers.get(key);
+        if (expiresAt != null && expiresAt > now) return false;
+        if (expiresAt == null && recentViewers.size() >= rankDedupeMaxEntries) return false;
+
+        // 동시에 같은 키로 들어온 경우 하나만 통과
+        return (expiresAt == null)
+                ? recentViewers.putIfAbsent(key, now + rankDedupeMillis) == null
+                : recentViewers.replace(key, expiresAt, now + rankDedupeMillis);
+    }
+
+    /** 아직 DB에 반영되지 않은 조회수 (화면 표시용) */
+    public long pendingCount(Long postId) {
+        return pendingCounts.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${booklog.view-tracking.flush-millis:5000}")
+    public void flush() {
+        flushCounts();
+        flushLogs();
+
+        long now = System.currentTimeMillis();
+        recentViewers.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushCounts() {
+        if (pendingCounts.isEmpty()) return;
+
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>();
+        for (Long postId : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(postId);
+            if (delta != null && delta > 0) deltas.add(Map.entry(postId, delta));
+        }
+        if (deltas.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate("""
+                    UPDATE booklog_posts SET view_count = view_count + ?
+                    WHERE id = ? AND status = 'PUBLISHED'
+                    """, deltas, deltas.size(), (ps, d) -> {
+                ps.setLong(1, d.getValue());
+                ps.setLong(2, d.getKey());
+            });
+            countFlushed.increment(deltas.stream().mapToLong(Map.Entry::getValue).sum());
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도 ({}개 글): {}", deltas.size(), e.getMessage());
+            deltas.forEach(d -> pendingCounts.merge(d.getKey(), d.getValue(), Long::sum));
+        }
+    }
+
+    private void flushLogs() {
+        List<PendingViewLog> batch = new ArrayList<>(logBatchSize);
+        while (pendingLogs.drainTo(batch, logBatchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO view_logs (post_id, user_id, created_at) VALUES (?, ?, ?)
+                        """, batch, batch.size(), (ps, v) -> {
+                    ps.setLong(1, v.postId());
+                    ps.setLong(2, v.userId());
+                    ps.setTimestamp(3, Timestamp.valueOf(v.createdAt()));
+                });
+                logFlushed.increment(batch.size());
+            } catch (Exception e) {
+                log.warn("조회 로그 저장 실패 - {}건 버림: {}", batch.size(), e.getMessage());
+                logDropped.increment(batch.size());
+            }
+            batch.clear();
+        }
+    }
+
+    private record PendingViewLog(Long postId, Long userId, LocalDateTime createdAt) {}
+
+    private record ViewerKey(Long postId, Long userId) {}
+}
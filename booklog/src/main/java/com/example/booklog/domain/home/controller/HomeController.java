@@ -4,6 +4,7 @@ import com.example.booklog.domain.home.service.HomeService;
 import com.example.booklog.domain.home.dto.HomeResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -27,6 +28,7 @@ public class HomeController {
      *
      * 실시간 랭킹, 분위기별/문체별/몰입도별 베스트셀러 등
      * 홈 화면에 필요한 모든 섹션 데이터를 한 번에 반환
+     * 미리 조립된 스냅샷을 반환하며, generatedAt/snapshotAgeSeconds(및 Age 헤더)로 경과 시간을 알려준다.
      *
      * @return 홈 화면 전체 응답 데이터
      */
@@ -36,7 +38,12 @@ public class HomeController {
 
         HomeResponse response = homeService.getHomeData();
 
-        return ResponseEntity.ok(response);
+        // 스냅샷 경과 시간을 표준 Age 헤더로도 제공
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (response.snapshotAgeSeconds() != null) {
+            builder.header(HttpHeaders.AGE, String.valueOf(response.snapshotAgeSeconds()));
+        }
+        return builder.body(response);
     }
 }
 
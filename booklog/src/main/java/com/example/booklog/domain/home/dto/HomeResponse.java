@@ -1,5 +1,6 @@
 package com.example.booklog.domain.home.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -10,7 +11,22 @@ public record HomeResponse(
         RealTimeRankingSection realTimeRanking,              // 실시간 랭킹 섹션
         List<TaggedBooksSection> moodBestsellers,            // 분위기별 베스트셀러
         List<TaggedBooksSection> writingStyleBestsellers,    // 문체별 베스트셀러
-        List<TaggedBooksSection> immersionBestsellers        // 몰입도별 베스트셀러
+        List<TaggedBooksSection> immersionBestsellers,       // 몰입도별 베스트셀러
+        LocalDateTime generatedAt,                           // 스냅샷 생성 시각 (nullable)
+        Long snapshotAgeSeconds                              // 스냅샷 경과 시간(초) (nullable)
 ) {
-}
+    /** 섹션만으로 생성 (스냅샷 정보 없음) */
+    public static HomeResponse of(RealTimeRankingSection realTimeRanking,
+                                  List<TaggedBooksSection> moodBestsellers,
+                                  List<TaggedBooksSection> writingStyleBestsellers,
+                                  List<TaggedBooksSection> immersionBestsellers) {
+        return new HomeResponse(realTimeRanking, moodBestsellers, writingStyleBestsellers,
+                immersionBestsellers, null, null);
+    }
 
+    /** 스냅샷 생성 시각/경과 시간을 채운 사본 */
+    public HomeResponse withSnapshotInfo(LocalDateTime generatedAt, long ageSeconds) {
+        return new HomeResponse(realTimeRanking, moodBestsellers, writingStyleBestsellers,
+                immersionBestsellers, generatedAt, ageSeconds);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.booklog.domain.home.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 미리 계산해 둔 홈 화면 응답 스냅샷
+ *
+ * @param response    조립이 끝난 홈 화면 응답 (스냅샷 정보 미포함)
+ * @param generatedAt 스냅샷 생성 시각
+ */
+public record HomeSnapshot(
+        HomeResponse response,
+        LocalDateTime generatedAt
+) {
+    public long ageSeconds(LocalDateTime now) {
+        return Math.max(0, Duration.between(generatedAt, now).getSeconds());
+    }
+
+    /** 요청 시점 기준 경과 시간을 채운 응답 */
+    public HomeResponse toResponse(LocalDateTime now) {
+        return response.withSnapshotInfo(generatedAt, ageSeconds(now));
+    }
+}
@@ -4,29 +4,34 @@ import com.example.booklog.domain.home.dto.BookSummary;
 import com.example.booklog.domain.library.books.dto.KakaoBookSearchResponse;
 import com.example.booklog.domain.library.books.entity.BookSource;
 import com.example.booklog.domain.library.books.entity.Books;
+import com.example.booklog.domain.library.books.repository.BookBulkJdbcRepository;
 import com.example.booklog.domain.library.books.repository.BooksRepository;
 import com.example.booklog.domain.library.books.service.client.KakaoBookClient;
+import com.example.booklog.domain.library.books.service.client.KakaoNegativeCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * 홈 화면용 도서 메타데이터 관리 서비스
  *
- * [1차 구현 전략 - 동기 방식]
+ * [구현 전략]
  * 1. DB 우선 조회
- * 2. DB에 없으면 카카오 API 동기 호출
- * 3. 카카오 API 응답을 DB에 저장
- * 4. 결과 반환
- *
- * [개선 예정]
- * - Redis 캐싱
- * - 비동기 처리
+ * 2. DB에 없는 도서는 카카오 API로 보강
+ *    - 배치 모드(기본): 누락 도서 전체를 동시 호출 후 한 번에 저장
+ *    - 단건 모드: 한 건씩 동기 호출 후 저장
+ * 3. 결과 반환
  */
 @Slf4j
 @Service
@@ -35,6 +40,21 @@ public class BookMetadataService {
 
     private final BooksRepository booksRepository;
     private final KakaoBookClient kakaoBookClient;
+    private final KakaoNegativeCache kakaoNegativeCache;
+    private final TransactionTemplate transactionTemplate;
+    private final BookBulkJdbcRepository bookBulkJdbcRepository;
+
+    // 누락 도서 일괄 보강 모드 (false면 기존처럼 한 건씩 동기 호출)
+    @Value("${home.kakao.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    // 카카오 API 동시 호출 상한
+    @Value("${home.kakao.batch.concurrency:8}")
+    private int batchConcurrency;
+
+    // 카카오 API 호출별 타임아웃
+    @Value("${home.kakao.batch.timeout-millis:2000}")
+    private long batchTimeoutMillis;
 
     /**
      * 여러 도서 일괄 조회 (홈 화면용)
@@ -56,30 +76,37 @@ public class BookMetadataService {
         Map<String, Books> bookMap = books.stream()
                 .collect(Collectors.toMap(Books::getTitle, b -> b));
 
-        // 3. BookSummary 변환
+        // 3. DB에 없는 도서 보강 (배치 모드: 카카오 동시 호출 + 일괄 저장)
+        Map<String, Books> fetchedMap = Map.of();
+        if (batchEnabled) {
+            List<String> missingTitles = titles.stream()
+                    .filter(title -> !bookMap.containsKey(title))
+                    .toList();
+            fetchedMap = fetchAndSaveAllFromKakao(missingTitles);
+        }
+
+        // 4. BookSummary 변환
         List<BookSummary> results = new ArrayList<>();
         for (BookInfo info : bookInfoList) {
             Books book = bookMap.get(info.title);
 
+            if (book == null) {
+                // DB에 없음 → 배치 결과 사용, 배치 모드가 아니면 카카오 API 개별 호출 후 저장
+                book = batchEnabled ? fetchedMap.get(info.title) : fetchAndSaveFromKakao(info.title);
+            }
+
             if (book != null) {
-                // DB에 있음 → 바로 변환
-                results.add(createBookSummary(info.bookId, book, info.ranking));
+                results.add(createBookSummary(book.getId(), book, info.ranking));
             } else {
-                // DB에 없음 → 카카오 API 호출 후 저장
-                Books newBook = fetchAndSaveFromKakao(info.title);
-                if (newBook != null) {
-                    results.add(createBookSummary(info.bookId, newBook, info.ranking));
-                } else {
-                    // 카카오 API에서도 못 찾음 → null 데이터 반환
-                    results.add(new BookSummary(
-                            info.bookId,
-                            info.title,
-                            null,
-                            null,
-                            null,
-                            info.ranking
-                    ));
-                }
+                // 카카오 API에서도 못 찾음 → null 데이터 반환
+                results.add(new BookSummary(
+                        info.bookId,
+                        info.title,
+                        null,
+                        null,
+                        null,
+                        info.ranking
+                ));
             }
         }
 
@@ -96,40 +123,46 @@ public class BookMetadataService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Books fetchAndSaveFromKakao(String title) {
+        if (kakaoNegativeCache.isKnownEmpty(title)) {
+            log.debug("카카오 결과 없음 캐시 적중 - 호출 생략: title={}", title);
+            return null;
+        }
+
         try {
             log.info("카카오 API 호출 시작: title={}", title);
 
             // 카카오 API 호출
             KakaoBookSearchResponse response = kakaoBookClient.search(title, 1, 1).block();
 
-            if (response == null || response.getDocuments().isEmpty()) {
+            if (response == null || response.getDocuments() == null || response.getDocuments().isEmpty()) {
                 log.warn("카카오 API 응답 없음: title={}", title);
+                if (response != null) {
+                    kakaoNegativeCache.recordEmpty(title);
+                }
                 return null;
             }
 
             // 첫 번째 결과로 Books 엔티티 생성
             KakaoBookSearchResponse.Document doc = response.getDocuments().get(0);
+            Books book = toBook(doc);
 
-            // ISBN 파싱
-            String[] isbns = parseIsbn(doc.getIsbn());
-            String isbn10 = isbns[0];
-            String isbn13 = isbns[1];
-
-            // Books 엔티티 생성
-            Books book = Books.builder()
-                    .title(doc.getTitle())
-                    .description(doc.getContents())
-                    .thumbnailUrl(doc.getThumbnail())
-                    .detailUrl(doc.getUrl())
-                    .publisherName(doc.getPublisher())
-                    .isbn(doc.getIsbn())
-                    .isbn10(isbn10)
-                    .isbn13(isbn13)
-                    .source(BookSource.KAKAO)
-                    .build();
-
-            // DB 저장
-            Books saved = booksRepository.save(book);
+            // 같은 정규화 ISBN 도서가 이미 있으면 재사용 (제목이 달라 DB 조회에서 빠진 경우)
+            Books existing = findByCanonicalIsbn(book.getCanonicalIsbn());
+            if (existing != null) {
+                log.info("카카오 API 응답 기존 도서와 매칭: title={}, bookId={}", title, existing.getId());
+                return existing;
+            }
+
+            // DB 저장 (소개글은 배치 모드와 같이 book_details로 분리 저장)
+            Books saved;
+            try {
+                saved = booksRepository.save(book);
+            } catch (DataIntegrityViolationException e) {
+                // 동시 임포트가 같은 ISBN을 먼저 저장 → 그 도서 사용
+                return findByCanonicalIsbn(book.getCanonicalIsbn());
+            }
+            bookBulkJdbcRepository.upsertDetails(List.of(
+                    new BookBulkJdbcRepository.BookDetailsRow(saved.getId(), doc.getContents(), null)));
             log.info("카카오 API 응답 DB 저장 완료: title={}, bookId={}", title, saved.getId());
 
             return saved;
@@ -140,6 +173,197 @@ public class BookMetadataService {
         }
     }
 
+    /** 정규화 ISBN으로 기존 도서 조회 (저자까지 함께, 없으면 null) */
+    private Books findByCanonicalIsbn(String canonicalIsbn) {
+        if (canonicalIsbn == null) return null;
+        return booksRepository.findByCanonicalIsbn(canonicalIsbn)
+                .flatMap(b -> booksRepository.findAllWithAuthorsByIdIn(List.of(b.getId())).stream().findFirst())
+                .orElse(null);
+    }
+
+    /**
+     * bookId 목록으로 일괄 조회 (랭킹 결과용, 카카오 미호출)
+     *
+     * @param bookIds 조회할 bookId
+     * @return bookId → BookSummary (ranking은 null, DB에 없는 id는 제외)
+     */
+    public Map<Long, BookSummary> getBookSummariesByIds(Collection<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) return Map.of();
+
+        return booksRepository.findAllWithAuthorsByIdIn(bookIds).stream()
+                .collect(Collectors.toMap(Books::getId, b -> createBookSummary(b.getId(), b, null)));
+    }
+
+    /**
+     * 누락 도서 일괄 보강 (배치 모드)
+     *
+     * 1. 카카오 API를 동시에 호출 (동시성 상한 + 호출별 타임아웃)
+     * 2. 이미 저장된 도서(정규화 ISBN, ISBN이 없으면 상세 URL)면 기존 엔티티 재사용 (중복 저장 방지)
+     * 3. 나머지는 임포트와 같은 JDBC 배치 insert로 저장 (동시 임포트가 먼저 넣은 ISBN은 건너뛰고 재조회)
+     *
+     * 콜드 스타트에서도 카카오 왕복 1회 수준의 지연으로 끝나도록 한다.
+     *
+     * @param titles DB에 없는 도서명 목록
+     * @return 요청 도서명 → 저장된 Books (카카오에서도 못 찾은 도서는 제외)
+     */
+    public Map<String, Books> fetchAndSaveAllFromKakao(List<String> titles) {
+        if (titles == null || titles.isEmpty()) return Map.of();
+
+        // 최근 카카오에서 결과가 없던 도서명은 호출하지 않음
+        List<String> targets = titles.stream()
+                .filter(title -> !kakaoNegativeCache.isKnownEmpty(title))
+                .toList();
+        if (targets.isEmpty()) return Map.of();
+
+        log.info("카카오 API 일괄 호출 시작: {} 건 (동시성 {}, 결과 없음 캐시로 생략 {} 건)",
+                targets.size(), batchConcurrency, titles.size() - targets.size());
+        Duration callTimeout = Duration.ofMillis(batchTimeoutMillis);
+
+        List<Map.Entry<String, KakaoBookSearchResponse.Document>> fetched = Flux.fromIterable(targets)
+                .flatMap(title -> kakaoBookClient.search(title, 1, 1)
+                                .timeout(callTimeout)
+                                .doOnNext(res -> {
+                                    if (res.getDocuments() == null || res.getDocuments().isEmpty()) {
+                                        kakaoNegativeCache.recordEmpty(title);
+                                    }
+                                })
+                                .filter(res -> res.getDocuments() != null && !res.getDocuments().isEmpty())
+                                .map(res -> Map.entry(title, res.getDocuments().get(0)))
+                                .onErrorResume(e -> {
+                                    log.warn("카카오 API 호출 실패: title={}, error={}", title, e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        batchConcurrency)
+                .collectList()
+                .block(overallTimeout(targets.size(), callTimeout));
+
+        if (fetched == null || fetched.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            Map<String, Books> saved = transactionTemplate.execute(status -> saveAllDeduplicated(fetched));
+            log.info("카카오 API 일괄 보강 완료: 요청 {} 건, 저장/매칭 {} 건", targets.size(), saved.size());
+            return saved;
+        } catch (Exception e) {
+            log.error("카카오 API 일괄 저장 실패: error={}", e.getMessage(), e);
+            return Map.of();
+        }
+    }
+
+    private Map<String, Books> saveAllDeduplicated(List<Map.Entry<String, KakaoBookSearchResponse.Document>> fetched) {
+        List<Map.Entry<String, Books>> books = fetched.stream()
+                .map(e -> Map.entry(e.getKey(), toBook(e.getValue())))
+                .toList();
+
+        Set<String> isbns = new HashSet<>();
+        Set<String> urls = new HashSet<>();
+        for (Map.Entry<String, Books> entry : books) {
+            Books book = entry.getValue();
+            if (book.getCanonicalIsbn() != null) isbns.add(book.getCanonicalIsbn());
+            else if (book.getDetailUrl() != null) urls.add(book.getDetailUrl());
+        }
+        Map<String, Books> existingByKey = new HashMap<>();
+        if (!isbns.isEmpty() || !urls.isEmpty()) {
+            booksRepository.findAllByCanonicalIsbnInOrDetailUrlIn(isbns, urls).forEach(b -> index(existingByKey, b));
+        }
+
+        // 신규 도서: 키(ISBN/URL)별 한 건만 (같은 배치 안의 중복 포함)
+        Map<String, Books> newBooks = new LinkedHashMap<>();
+        Map<String, String> descriptions = new HashMap<>();
+        Map<String, Books> keyless = new HashMap<>();
+        for (int i = 0; i < books.size(); i++) {
+            Books book = books.get(i).getValue();
+            String key = keyOf(book);
+            if (key == null) {
+                keyless.put(books.get(i).getKey(), book);
+            } else if (!existingByKey.containsKey(key) && !newBooks.containsKey(key)) {
+                newBooks.put(key, book);
+                descriptions.put(key, fetched.get(i).getValue().getContents());
+            }
+        }
+
+        if (!newBooks.isEmpty()) {
+            bookBulkJdbcRepository.insertBooks(List.copyOf(newBooks.values()));
+            Set<String> newIsbns = new HashSet<>();
+            Set<String> newUrls = new HashSet<>();
+            for (Books b : newBooks.values()) {
+                if (b.getCanonicalIsbn() != null) newIsbns.add(b.getCanonicalIsbn());
+                else newUrls.add(b.getDetailUrl());
+            }
+            booksRepository.findAllByCanonicalIsbnInOrDetailUrlIn(newIsbns, newUrls).forEach(b -> index(existingByKey, b));
+
+            // 소개글은 book_details로 분리 저장
+            List<BookBulkJdbcRepository.BookDetailsRow> details = new ArrayList<>();
+            newBooks.keySet().forEach(key -> {
+                Books saved = existingByKey.get(key);
+                if (saved != null) {
+                    details.add(new BookBulkJdbcRepository.BookDetailsRow(saved.getId(), descriptions.get(key), null));
+                }
+            });
+            bookBulkJdbcRepository.upsertDetails(details);
+        }
+        // ISBN/URL 둘 다 없으면 재조회 불가 → 건별 저장
+        keyless.values().forEach(booksRepository::save);
+
+        Map<String, Long> idByTitle = new HashMap<>();
+        for (Map.Entry<String, Books> entry : books) {
+            String key = keyOf(entry.getValue());
+            Books book = (key == null) ? keyless.get(entry.getKey()) : existingByKey.get(key);
+            if (book != null && book.getId() != null) idByTitle.put(entry.getKey(), book.getId());
+        }
+        if (idByTitle.isEmpty()) return Map.of();
+
+        // 트랜잭션 밖에서 저자명을 읽으므로 저자까지 함께 조회
+        Map<Long, Books> withAuthors = booksRepository.findAllWithAuthorsByIdIn(new HashSet<>(idByTitle.values())).stream()
+                .collect(Collectors.toMap(Books::getId, b -> b, (a, b) -> a));
+        Map<String, Books> result = new HashMap<>();
+        idByTitle.forEach((title, id) -> {
+            Books book = withAuthors.get(id);
+            if (book != null) result.put(title, book);
+        });
+        return result;
+    }
+
+    /** 도서 동일성 키: 정규화 ISBN, 없으면 상세 URL (둘 다 없으면 null) */
+    private static String keyOf(Books book) {
+        if (book.getCanonicalIsbn() != null) return "isbn:" + book.getCanonicalIsbn();
+        if (book.getDetailUrl() != null) return "url:" + book.getDetailUrl();
+        return null;
+    }
+
+    private static void index(Map<String, Books> byKey, Books book) {
+        if (book.getCanonicalIsbn() != null) byKey.putIfAbsent("isbn:" + book.getCanonicalIsbn(), book);
+        if (book.getDetailUrl() != null) byKey.putIfAbsent("url:" + book.getDetailUrl(), book);
+    }
+
+    /** 전체 대기 상한: 동시성 상한만큼씩 나눠 도는 라운드 수 x 호출 타임아웃 (+여유) */
+    private Duration overallTimeout(int count, Duration callTimeout) {
+        int rounds = (count + batchConcurrency - 1) / batchConcurrency;
+        return callTimeout.multipliedBy(rounds).plusSeconds(1);
+    }
+
+    /**
+     * 카카오 문서 → Books 엔티티 (저장 전)
+     */
+    private Books toBook(KakaoBookSearchResponse.Document doc) {
+        // ISBN 파싱
+        String[] isbns = parseIsbn(doc.getIsbn());
+        String isbn10 = isbns[0];
+        String isbn13 = isbns[1];
+
+        return Books.builder()
+                .title(doc.getTitle())
+                .thumbnailUrl(doc.getThumbnail())
+                .detailUrl(doc.getUrl())
+                .publisherName(doc.getPublisher())
+                .isbn(doc.getIsbn())
+                .isbn10(isbn10)
+                .isbn13(isbn13)
+                .source(BookSource.KAKAO)
+                .build();
+    }
+
     /**
      * BookSummary 생성
      */
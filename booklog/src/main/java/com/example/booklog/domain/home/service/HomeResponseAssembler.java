@@ -0,0 +1,277 @@
+package com.example.booklog.domain.home.service;
+
+import com.example.booklog.domain.home.dto.*;
+import com.example.booklog.domain.ranking.service.RankingService;
+import com.example.booklog.domain.tags.entity.TagCategory;
+import com.example.booklog.domain.tags.entity.Tags;
+import com.example.booklog.domain.tags.repository.TagsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 화면 응답 조립기
+ *
+ * [구성 방식]
+ * - 실시간 랭킹 / 태그별 섹션은 RankingService의 실제 활동 기반 순위 사용
+ * - 활동이 부족해 순위가 모자라면 PM 제공 큐레이션 목록으로 채움
+ * - 태그 섹션은 DB 태그 기준 (태그가 없으면 큐레이션 섹션 그대로)
+ *
+ * DB/카카오 API를 호출하므로 요청 스레드가 아니라
+ * HomeSnapshotService의 백그라운드 갱신에서만 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeResponseAssembler {
+
+    private static final String RANKING_TITLE = "2030 인기 도서 TOP 20";
+    private static final int RANKING_SIZE = 20;
+    private static final int TAG_SECTION_SIZE = 3;
+
+    private final BookMetadataService bookMetadataService;
+    private final RankingService rankingService;
+    private final TagsRepository tagsRepository;
+
+    /**
+     * PM 제공 데이터: 2030 인기 도서 TOP 20 (랭킹 부족 시 보충용)
+     */
+    private static final List<String> CURATED_RANKING = List.of(
+            "트렌드 코리아 2026",
+            "비가 오면 열리는 상점",
+            "이중 하나는 거짓말",
+            "모순",
+            "메리골드 마음 세탁소",
+            "시대예보: 핵개인의 시대",
+            "마흔에 읽는 쇼펜하우어",
+            "불편한 편의점",
+            "돈의 속성 (300쇄 리미티드)",
+            "채식주의자",
+            "나의 서투른 위로가 너에게 닿기를",
+            "달러구트 꿈 백화점",
+            "모든 삶은 기록을 남긴다",
+            "데미안",
+            "기분이 태도가 되지 않게",
+            "작별인사",
+            "당신도 느리게 재생할 수 있습니다",
+            "1cm 다이빙",
+            "초격차",
+            "물고기는 존재하지 않는다"
+    );
+
+    /**
+     * PM 제공 데이터: 카테고리별 태그 섹션 (태그별 랭킹 부족 시 보충용)
+     */
+    private static final Map<TagCategory, List<CuratedSection>> CURATED_TAG_SECTIONS = Map.of(
+            TagCategory.MOOD, List.of(
+                    new CuratedSection("따뜻한", List.of("비가 오면 열리는 상점", "메리골드 마음 세탁소", "불편한 편의점")),
+                    new CuratedSection("잔잔한", List.of("이중 하나는 거짓말", "모순", "마흔에 읽는 쇼펜하우어")),
+                    new CuratedSection("유쾌한", List.of("트렌드 코리아 2026", "시대예보: 핵개인의 시대", "불편한 편의점")),
+                    new CuratedSection("어두운", List.of("마흔에 읽는 쇼펜하우어", "채식주의자", "데미안")),
+                    new CuratedSection("서늘한", List.of("트렌드 코리아 2026", "이중 하나는 거짓말", "모순")),
+                    new CuratedSection("몽환적인", List.of("비가 오면 열리는 상점", "메리골드 마음 세탁소", "달러구트 꿈 백화점"))
+            ),
+            TagCategory.STYLE, List.of(
+                    new CuratedSection("간결한", List.of("트렌드 코리아 2026", "시대예보: 핵개인의 시대", "마흔에 읽는 쇼펜하우어")),
+                    new CuratedSection("화려한", List.of("달러구트 꿈 백화점", "물고기는 존재하지 않는다")), // 3위 없음
+                    new CuratedSection("담백한", List.of("모순", "메리골드 마음 세탁소", "불편한 편의점")),
+                    new CuratedSection("섬세한", List.of("비가 오면 열리는 상점", "이중 하나는 거짓말", "메리골드 마음 세탁소")),
+                    new CuratedSection("직설적", List.of("트렌드 코리아 2026", "시대예보: 핵개인의 시대", "마흔에 읽는 쇼펜하우어")),
+                    new CuratedSection("은유적", List.of("비가 오면 열리는 상점", "이중 하나는 거짓말", "모순"))
+            ),
+            TagCategory.IMMERSION, List.of(
+                    new CuratedSection("가볍게 읽기 좋은", List.of("트렌드 코리아 2026", "돈의 속성 (300쇄 리미티드)", "나의 서투른 위로가 너에게 닿기를")),
+                    new CuratedSection("생각이 필요한", List.of("모순", "시대예보: 핵개인의 시대", "마흔에 읽는 쇼펜하우어")),
+                    new CuratedSection("쉽게 빠져드는", List.of("비가 오면 열리는 상점", "메리골드 마음 세탁소", "불편한 편의점")),
+                    new CuratedSection("여운이 남는", List.of("이중 하나는 거짓말", "작별인사", "물고기는 존재하지 않는다"))
+            )
+    );
+
+    /**
+     * 홈 화면 전체 응답 생성 (랭킹 조회 + 부족분 큐레이션 보충)
+     */
+    public HomeResponse assemble() {
+        log.info("홈 화면 데이터 조립 시작");
+
+        // 1. 랭킹 조회 (전체 + 태그별)
+        List<Long> rankedIds = rankingService.topBooks(RANKING_SIZE);
+
+        Map<TagCategory, List<Tags>> tagsByCategory = tagsRepository.findAll().stream()
+                .sorted(Comparator.comparing(Tags::getId))
+                .collect(Collectors.groupingBy(Tags::getCategory));
+
+        Map<Long, List<Long>> rankedIdsByTag = new HashMap<>();
+        tagsByCategory.values().forEach(tags -> tags.forEach(tag ->
+                rankedIdsByTag.put(tag.getId(), rankingService.topBooksByTag(tag.getId(), TAG_SECTION_SIZE))));
+
+        // 2. 랭킹 도서 일괄 조회 (id IN + fetch join)
+        Set<Long> allIds = new LinkedHashSet<>(rankedIds);
+        rankedIdsByTag.values().forEach(allIds::addAll);
+        Map<Long, BookSummary> rankedBooks = bookMetadataService.getBookSummariesByIds(allIds);
+
+        // 3. 보충에 필요한 큐레이션 도서만 조회 (DB 우선, 누락 시 카카오)
+        Set<String> curatedTitles = new LinkedHashSet<>();
+        if (countResolved(rankedIds, rankedBooks) < RANKING_SIZE) {
+            curatedTitles.addAll(CURATED_RANKING);
+        }
+        for (TagCategory category : TagCategory.values()) {
+            List<Tags> tags = tagsByCategory.get(category);
+            if (tags == null || tags.isEmpty()) {
+                CURATED_TAG_SECTIONS.getOrDefault(category, List.of()).forEach(s -> curatedTitles.addAll(s.titles()));
+                continue;
+            }
+            for (Tags tag : tags) {
+                if (countResolved(rankedIdsByTag.get(tag.getId()), rankedBooks) < TAG_SECTION_SIZE) {
+                    findCurated(category, tag.getName()).ifPresent(s -> curatedTitles.addAll(s.titles()));
+                }
+            }
+        }
+        Map<String, BookSummary> curatedBooks = resolveCurated(curatedTitles);
+
+        return HomeResponse.of(
+                buildRealTimeRanking(rankedIds, rankedBooks, curatedBooks),
+                buildTagSections(TagCategory.MOOD, tagsByCategory, rankedIdsByTag, rankedBooks, curatedBooks),
+                buildTagSections(TagCategory.STYLE, tagsByCategory, rankedIdsByTag, rankedBooks, curatedBooks),
+                buildTagSections(TagCategory.IMMERSION, tagsByCategory, rankedIdsByTag, rankedBooks, curatedBooks)
+        );
+    }
+
+    /**
+     * 메타데이터 없이 큐레이션 도서명만 채운 응답 (DB/카카오 미사용)
+     * 스냅샷이 한 번도 만들어지지 않은 콜드 스타트에서만 사용
+     */
+    public HomeResponse fallback() {
+        Map<String, BookSummary> empty = Map.of();
+        return HomeResponse.of(
+                buildRealTimeRanking(List.of(), Map.of(), empty),
+                buildCuratedSections(TagCategory.MOOD, empty),
+                buildCuratedSections(TagCategory.STYLE, empty),
+                buildCuratedSections(TagCategory.IMMERSION, empty)
+        );
+    }
+
+    /**
+     * 실시간 랭킹 섹션 구성
+     * 랭킹 순서대로 채우고, 모자라면 큐레이션 TOP 20 순서로 보충
+     */
+    private RealTimeRankingSection buildRealTimeRanking(List<Long> rankedIds,
+                                                        Map<Long, BookSummary> rankedBooks,
+                                                        Map<String, BookSummary> curatedBooks) {
+        List<BookSummary> books = fill(rankedIds, rankedBooks, CURATED_RANKING, curatedBooks, RANKING_SIZE);
+
+        List<BookSummary> rankings = new ArrayList<>(books.size());
+        for (int i = 0; i < books.size(); i++) {
+            rankings.add(withRanking(books.get(i), i + 1));
+        }
+        return new RealTimeRankingSection(RANKING_TITLE, rankings);
+    }
+
+    /**
+     * 카테고리별 태그 섹션 구성
+     * DB 태그 순서대로, 태그별 랭킹 + 같은 이름의 큐레이션 섹션으로 보충 (도서가 없는 태그는 제외)
+     */
+    private List<TaggedBooksSection> buildTagSections(TagCategory category,
+                                                      Map<TagCategory, List<Tags>> tagsByCategory,
+                                                      Map<Long, List<Long>> rankedIdsByTag,
+                                                      Map<Long, BookSummary> rankedBooks,
+                                                      Map<String, BookSummary> curatedBooks) {
+        List<Tags> tags = tagsByCategory.get(category);
+        if (tags == null || tags.isEmpty()) {
+            return buildCuratedSections(category, curatedBooks);
+        }
+
+        List<TaggedBooksSection> sections = new ArrayList<>();
+        for (Tags tag : tags) {
+            List<String> curated = findCurated(category, tag.getName())
+                    .map(CuratedSection::titles)
+                    .orElse(List.of());
+
+            List<BookSummary> books = fill(rankedIdsByTag.getOrDefault(tag.getId(), List.of()), rankedBooks,
+                    curated, curatedBooks, TAG_SECTION_SIZE);
+            if (!books.isEmpty()) {
+                sections.add(new TaggedBooksSection(tag.getName(), books));
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * 큐레이션 섹션 그대로 구성 (태그 데이터가 없을 때)
+     */
+    private List<TaggedBooksSection> buildCuratedSections(TagCategory category, Map<String, BookSummary> curatedBooks) {
+        return CURATED_TAG_SECTIONS.getOrDefault(category, List.of()).stream()
+                .map(s -> new TaggedBooksSection(s.tagName(),
+                        fill(List.of(), Map.of(), s.titles(), curatedBooks, s.titles().size())))
+                .toList();
+    }
+
+    /**
+     * 랭킹 도서를 먼저 채우고 부족분을 큐레이션 도서로 보충 (중복 제거, ranking은 null)
+     */
+    private List<BookSummary> fill(List<Long> rankedIds, Map<Long, BookSummary> rankedBooks,
+                                   List<String> curatedTitles, Map<String, BookSummary> curatedBooks,
+                                   int size) {
+        List<BookSummary> result = new ArrayList<>(size);
+        Set<Long> usedIds = new HashSet<>();
+        Set<String> usedTitles = new HashSet<>();
+
+        for (Long id : rankedIds) {
+            if (result.size() >= size) break;
+            BookSummary book = rankedBooks.get(id);
+            if (book != null && usedIds.add(id)) {
+                usedTitles.add(book.title());
+                result.add(book);
+            }
+        }
+
+        for (String title : curatedTitles) {
+            if (result.size() >= size) break;
+            BookSummary book = curatedBooks.getOrDefault(title, createFallback(title));
+            boolean duplicate = (book.bookId() != null && !usedIds.add(book.bookId())) || !usedTitles.add(title);
+            if (!duplicate) {
+                result.add(withRanking(book, null));
+            }
+        }
+        return result;
+    }
+
+    private Map<String, BookSummary> resolveCurated(Collection<String> titles) {
+        if (titles.isEmpty()) return Map.of();
+
+        List<BookMetadataService.BookInfo> infos = titles.stream()
+                .map(title -> new BookMetadataService.BookInfo(null, title, null))
+                .toList();
+
+        return bookMetadataService.getBookSummaries(infos).stream()
+                .collect(Collectors.toMap(BookSummary::title, b -> b, (a, b) -> a));
+    }
+
+    private Optional<CuratedSection> findCurated(TagCategory category, String tagName) {
+        return CURATED_TAG_SECTIONS.getOrDefault(category, List.of()).stream()
+                .filter(s -> s.tagName().equals(tagName))
+                .findFirst();
+    }
+
+    private static int countResolved(List<Long> ids, Map<Long, BookSummary> books) {
+        if (ids == null) return 0;
+        return (int) ids.stream().filter(books::containsKey).count();
+    }
+
+    private static BookSummary withRanking(BookSummary book, Integer ranking) {
+        return new BookSummary(book.bookId(), book.title(), book.author(), book.publisher(),
+                book.coverImageUrl(), ranking);
+    }
+
+    /**
+     * Fallback BookSummary 생성 (DB/카카오 모두 없는 도서: 도서명만)
+     */
+    private static BookSummary createFallback(String title) {
+        return new BookSummary(null, title, null, null, null, null);
+    }
+
+    private record CuratedSection(String tagName, List<String> titles) {
+    }
+}
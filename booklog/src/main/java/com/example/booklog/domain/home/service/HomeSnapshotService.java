@@ -0,0 +1,191 @@
+package com.example.booklog.domain.home.service;
+
+import com.example.booklog.domain.home.dto.HomeResponse;
+import com.example.booklog.domain.home.dto.HomeSnapshot;
+import com.example.booklog.domain.library.books.event.BookCatalogChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 홈 화면 스냅샷 엔진 (stale-while-revalidate)
+ *
+ * [동작 방식]
+ * 1. 요청은 항상 메모리에 있는 마지막 스냅샷을 즉시 반환 (DB/카카오 미호출)
+ * 2. 스냅샷 조립은 전용 executor에서 백그라운드로 수행
+ * 3. 갱신 조건: 주기(refresh-interval) 경과 또는 카탈로그 변경 이벤트 수신
+ * 4. 조립 결과는 homeBooks 캐시(Redis)에도 저장 → 재기동/다른 인스턴스가 바로 사용
+ *
+ * 조립이 실패하면 마지막 정상 스냅샷을 계속 제공한다.
+ */
+@Slf4j
+@Service
+public class HomeSnapshotService {
+
+    private static final String CACHE_NAME = "homeBooks";
+    private static final String CACHE_KEY = "snapshot";
+
+    private final HomeResponseAssembler assembler;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+
+    private final long refreshIntervalSeconds;
+    private final long coldStartWaitMillis;
+
+    private final AtomicReference<HomeSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<HomeSnapshot>> inFlight = new AtomicReference<>();
+    private final AtomicBoolean catalogChanged = new AtomicBoolean(false);
+
+    public HomeSnapshotService(HomeResponseAssembler assembler,
+                               CacheManager cacheManager,
+                               ObjectMapper objectMapper,
+                               @Qualifier("homeSnapshotExecutor") TaskExecutor executor,
+                               @Value("${home.snapshot.refresh-interval-seconds:300}") long refreshIntervalSeconds,
+                               @Value("${home.snapshot.cold-start-wait-millis:3000}") long coldStartWaitMillis) {
+        this.assembler = assembler;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+        this.coldStartWaitMillis = coldStartWaitMillis;
+    }
+
+    /**
+     * 현재 스냅샷 기반 홈 응답
+     * - 스냅샷이 있으면 즉시 반환 (오래됐으면 백그라운드 갱신만 예약)
+     * - 콜드 스타트면 진행 중인 조립을 잠시 기다리고, 그래도 없으면 도서명만 있는 fallback 반환
+     */
+    public HomeResponse getHomeResponse() {
+        LocalDateTime now = LocalDateTime.now();
+        HomeSnapshot snapshot = current.get();
+
+        if (snapshot != null) {
+            if (snapshot.ageSeconds(now) >= refreshIntervalSeconds) {
+                refreshAsync();
+            }
+            return snapshot.toResponse(now);
+        }
+
+        HomeSnapshot cached = loadFromCache();
+        if (cached != null) {
+            current.compareAndSet(null, cached);
+            return getHomeResponse();
+        }
+
+        try {
+            HomeSnapshot built = refreshAsync().get(coldStartWaitMillis, TimeUnit.MILLISECONDS);
+            if (built != null) return built.toResponse(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("홈 스냅샷 콜드 스타트 대기 초과 - fallback 응답 반환: {}", e.getMessage());
+        }
+        return assembler.fallback();
+    }
+
+    /**
+     * 백그라운드 갱신 요청
+     * 이미 조립 중이면 새로 시작하지 않고 진행 중인 작업을 공유한다.
+     */
+    public CompletableFuture<HomeSnapshot> refreshAsync() {
+        CompletableFuture<HomeSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<HomeSnapshot> existing = inFlight.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(rebuild());
+                } catch (Exception e) {
+                    log.error("홈 스냅샷 조립 실패 - 이전 스냅샷 유지: {}", e.getMessage(), e);
+                    created.complete(current.get());
+                } finally {
+                    inFlight.set(null);
+                }
+            });
+        } catch (Exception e) {
+            inFlight.set(null);
+            created.complete(current.get());
+        }
+        return created;
+    }
+
+    private HomeSnapshot rebuild() {
+        catalogChanged.set(false);
+
+        long start = System.currentTimeMillis();
+        HomeSnapshot snapshot = new HomeSnapshot(assembler.assemble(), LocalDateTime.now());
+        current.set(snapshot);
+        saveToCache(snapshot);
+
+        log.info("홈 스냅샷 갱신 완료 - {}ms", System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    /** 기동 직후: 캐시에 남아 있는 스냅샷으로 먼저 채우고 새로 조립 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        HomeSnapshot cached = loadFromCache();
+        if (cached != null) {
+            current.compareAndSet(null, cached);
+        }
+        refreshAsync();
+    }
+
+    /** 주기 점검: 카탈로그가 바뀌었거나 갱신 주기가 지났으면 재조립 */
+    @Scheduled(fixedDelayString = "${home.snapshot.check-interval-millis:30000}",
+            initialDelayString = "${home.snapshot.check-interval-millis:30000}")
+    public void refreshIfNeeded() {
+        HomeSnapshot snapshot = current.get();
+        boolean expired = snapshot == null
+                || snapshot.ageSeconds(LocalDateTime.now()) >= refreshIntervalSeconds;
+
+        if (expired || catalogChanged.get()) {
+            refreshAsync();
+        }
+    }
+
+    /** 카탈로그 변경 시 다음 점검 때 재조립되도록 표시 (변경이 몰려도 한 번만 조립) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(BookCatalogChangedEvent event) {
+        catalogChanged.set(true);
+    }
+
+    private HomeSnapshot loadFromCache() {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            String json = (cache == null) ? null : cache.get(CACHE_KEY, String.class);
+            return (json == null) ? null : objectMapper.readValue(json, HomeSnapshot.class);
+        } catch (Exception e) {
+            log.warn("홈 스냅샷 캐시 조회 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToCache(HomeSnapshot snapshot) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.put(CACHE_KEY, objectMapper.writeValueAsString(snapshot));
+            }
+        } catch (Exception e) {
+            log.warn("홈 스냅샷 캐시 저장 실패 (무시): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.booklog.domain.library.books.controller;
+
+import com.example.booklog.domain.library.books.dto.IngestionJobCreateRequest;
+import com.example.booklog.domain.library.books.dto.IngestionJobResponse;
+import com.example.booklog.domain.library.books.service.CatalogIngestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 카탈로그 대량 수집 관리 API (ADMIN 전용, SecurityConfig의 /admin/**)
+ */
+@Tag(name = "관리자 - 카탈로그 수집", description = "seed 파일 기반 도서 대량 수집 작업 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/ingestion/jobs")
+public class CatalogIngestionAdminController {
+
+    private final CatalogIngestionService catalogIngestionService;
+
+    @Operation(
+            summary = "수집 작업 시작",
+            description = """
+                    seed 디렉터리의 파일(한 줄에 ISBN 또는 검색어)을 카카오에서 조회해 카탈로그에 저장합니다.
+                    - 배치 단위로 커밋/체크포인트, 서버 재기동 시 자동 재개
+                    """
+    )
+    @PostMapping
+    public IngestionJobResponse start(@RequestBody @Valid IngestionJobCreateRequest req) {
+        return catalogIngestionService.start(req.sourceFile());
+    }
+
+    @Operation(summary = "수집 작업 목록 (최근 20건)")
+    @GetMapping
+    public List<IngestionJobResponse> list() {
+        return catalogIngestionService.recent();
+    }
+
+    @Operation(summary = "수집 작업 조회 (진행률/처리량/오류 수)")
+    @GetMapping("/{jobId}")
+    public IngestionJobResponse get(@PathVariable Long jobId) {
+        return catalogIngestionService.get(jobId);
+    }
+
+    @Operation(summary = "수집 작업 중지 (진행 중인 배치까지 처리)")
+    @PostMapping("/{jobId}/stop")
+    public IngestionJobResponse stop(@PathVariable Long jobId) {
+        return catalogIngestionService.stop(jobId);
+    }
+
+    @Operation(summary = "수집 작업 재개 (체크포인트부터)")
+    @PostMapping("/{jobId}/resume")
+    public IngestionJobResponse resume(@PathVariable Long jobId) {
+        return catalogIngestionService.resume(jobId);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.booklog.domain.library.books.converter;
+
+/**
+ * ISBN 정규화 (도서 동일성 판단 기준: books.canonical_isbn)
+ *
+ * - 하이픈/공백 제거, ISBN-10은 978 접두어를 붙여 ISBN-13으로 변환
+ * - 체크섬이 맞지 않는 값은 버림 (카카오 응답에 가끔 섞이는 잘못된 ISBN 방지)
+ * - 카카오 형식("isbn10 isbn13")처럼 여러 개가 들어오면 유효한 ISBN-13 우선
+ */
+public final class IsbnNormalizer {
+
+    private IsbnNormalizer() {
+    }
+
+    /**
+     * 원문 ISBN 문자열 → 정규화된 ISBN-13 (유효한 값이 없으면 null)
+     */
+    public static String canonical(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+
+        String fromIsbn10 = null;
+        for (String token : raw.trim().split("[\\s,]+")) {
+            String digits = strip(token);
+            if (isValidIsbn13(digits)) return digits;
+            if (fromIsbn10 == null && isValidIsbn10(digits)) fromIsbn10 = toIsbn13(digits);
+        }
+        return fromIsbn10;
+    }
+
+    /** 유효한 ISBN-10 → ISBN-13 (978 접두어 + 체크섬 재계산) */
+    public static String toIsbn13(String isbn10) {
+        String body = "978" + isbn10.substring(0, 9);
+        return body + isbn13CheckDigit(body);
+    }
+
+    public static boolean isValidIsbn13(String s) {
+        if (s == null || s.length() != 13 || !s.chars().allMatch(Character::isDigit)) return false;
+        if (!s.startsWith("978") && !s.startsWith("979")) return false;
+        return isbn13CheckDigit(s.substring(0, 12)) == s.charAt(12) - '0';
+    }
+
+    public static boolean isValidIsbn10(String s) {
+        if (s == null || s.length() != 10) return false;
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = s.charAt(i);
+            int v;
+            if (Character.isDigit(c)) v = c - '0';
+            else if (i == 9 && (c == 'X' || c == 'x')) v = 10;
+            else return false;
+            sum += v * (10 - i);
+        }
+        return sum % 11 == 0;
+    }
+
+    private static int isbn13CheckDigit(String first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int d = first12.charAt(i) - '0';
+            sum += (i % 2 == 0) ? d : d * 3;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static String strip(String token) {
+        return token.replace("-", "").trim().toUpperCase();
+    }
+}
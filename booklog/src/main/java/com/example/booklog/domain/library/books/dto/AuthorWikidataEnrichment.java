@@ -11,21 +11,15 @@ public record AuthorWikidataEnrichment(
         Integer debutYear,        // ✅ 연도는 Integer
         String debutWorkTitle,
         String wikidataQid,       // "Q12345"
-        String rawJson            // 위키데이터 원문 JSON
+        String nameEn,            // 영문 라벨
+        String occupation,        // 직업 라벨 (", " 구분)
+        String wikipediaUrl       // 한국어 위키백과 우선
 ) {
-    /** qid/rawJson만 저장하고 나머지는 null */
-    public static AuthorWikidataEnrichment minimal(String wikidataQid, String rawJson) {
+    /** qid만 저장하고 나머지는 null */
+    public static AuthorWikidataEnrichment minimal(String wikidataQid) {
         return new AuthorWikidataEnrichment(
                 null, null, null, null, null, null, null,
-                wikidataQid, rawJson
-        );
-    }
-
-    /** 최소 + 요약(bio)만 넣고 싶을 때 */
-    public static AuthorWikidataEnrichment minimalWithBio(String wikidataQid, String rawJson, String bioOrSummary) {
-        return new AuthorWikidataEnrichment(
-                null, bioOrSummary, null, null, null, null, null,
-                wikidataQid, rawJson
+                wikidataQid, null, null, null
         );
     }
 }
@@ -2,10 +2,22 @@ package com.example.booklog.domain.library.books.dto;
 
 import java.util.List;
 
+/**
+ * @param enriching 카카오 임포트가 백그라운드에서 진행 중인지 (true면 잠시 후 재검색 시 결과가 늘어날 수 있음)
+ */
 public record BookSearchResponse(
         int page,
         int size,
         boolean isEnd,
         int totalCount,
-        List<BookSearchItemResponse> items
-) {}
+        List<BookSearchItemResponse> items,
+        boolean enriching
+) {
+    public BookSearchResponse(int page, int size, boolean isEnd, int totalCount, List<BookSearchItemResponse> items) {
+        this(page, size, isEnd, totalCount, items, false);
+    }
+
+    public BookSearchResponse withEnriching(boolean enriching) {
+        return new BookSearchResponse(page, size, isEnd, totalCount, items, enriching);
+    }
+}
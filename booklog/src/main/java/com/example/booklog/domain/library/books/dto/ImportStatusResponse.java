@@ -0,0 +1,30 @@
+package com.example.booklog.domain.library.books.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 카카오 임포트 상태 (검색 결과 enriching=true일 때 폴링용)
+ *
+ * @param query 검색어
+ * @param status 임포트 상태
+ * @param importedCount 임포트된 도서 수 (DONE일 때만 의미 있음)
+ * @param updatedAt 마지막 상태 변경 시각 (NONE이면 null)
+ */
+public record ImportStatusResponse(
+        String query,
+        Status status,
+        int importedCount,
+        LocalDateTime updatedAt
+) {
+    public enum Status {
+        NONE,     // 요청된 임포트 없음 (또는 만료)
+        PENDING,  // 대기열에 있음
+        RUNNING,  // 진행 중
+        DONE,     // 완료 → 재검색하면 결과 반영
+        FAILED    // 실패
+    }
+
+    public boolean inProgress() {
+        return status == Status.PENDING || status == Status.RUNNING;
+    }
+}
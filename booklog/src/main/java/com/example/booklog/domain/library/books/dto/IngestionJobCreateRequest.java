@@ -0,0 +1,11 @@
+package com.example.booklog.domain.library.books.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * @param sourceFile seed 디렉터리(ingestion.seed-dir) 안의 파일명
+ */
+public record IngestionJobCreateRequest(
+        @NotBlank String sourceFile
+) {
+}
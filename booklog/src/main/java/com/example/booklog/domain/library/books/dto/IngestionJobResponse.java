@@ -0,0 +1,34 @@
+package com.example.booklog.domain.library.books.dto;
+
+import com.example.booklog.domain.library.books.entity.CatalogIngestionJob;
+import com.example.booklog.domain.library.books.entity.IngestionJobStatus;
+
+import java.time.LocalDateTime;
+
+public record IngestionJobResponse(
+        Long jobId,
+        String sourceFile,
+        IngestionJobStatus status,
+        long checkpointLine,
+        long importedBooks,
+        long errorCount,
+        double booksPerSecond,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static IngestionJobResponse from(CatalogIngestionJob job) {
+        return new IngestionJobResponse(
+                job.getId(),
+                job.getSourceFile(),
+                job.getStatus(),
+                job.getCheckpointLine(),
+                job.getImportedBooks(),
+                job.getErrorCount(),
+                Math.round(job.booksPerSecond() * 100) / 100.0,
+                job.getLastError(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.booklog.domain.library.books.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 위키데이터 엔티티에서 실제로 쓰는 값만 뽑은 결과 (WikidataEntityParser)
+ * 원문 JSON은 보관하지 않는다.
+ */
+public record WikidataEntityFacts(
+        String qid,
+        String labelKo,
+        String labelEn,
+        String descriptionKo,
+        String descriptionEn,
+        LocalDate birthDate,         // P569 (일 단위 정밀도일 때만)
+        List<String> occupationQids, // P106
+        List<String> citizenshipQids,// P27
+        String imageFile,            // P18 (위키미디어 커먼즈 파일명)
+        String kowikiTitle,
+        String enwikiTitle,
+        List<AwardClaim> awards      // P166
+) {
+    /** 수상 (P166) + 한정자: 시점(P585), 수상작(P1686) */
+    public record AwardClaim(String awardQid, Integer year, String workQid) {}
+
+    /** 한국어 우선 라벨 */
+    public String label() {
+        return labelKo != null ? labelKo : labelEn;
+    }
+
+    /** 한국어 우선 설명 */
+    public String description() {
+        return descriptionKo != null ? descriptionKo : descriptionEn;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.booklog.domain.library.books.entity;
+
+/**
+ * 위키데이터 보강 진행 상태 (authors.wikidata_status)
+ * NULL은 아직 한 번도 시도하지 않은 작가 (= PENDING)
+ */
+public enum AuthorEnrichmentStatus {
+    PENDING,    // 보강 대기 (재요청 포함)
+    DONE,       // QID + 엔티티 저장 완료
+    NOT_FOUND,  // 위키데이터 검색 결과 없음
+    FAILED      // 호출 오류 → retry-after 이후 재시도 (max-attempts까지)
+}
@@ -8,8 +8,24 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "authors") // 추후 수정될 가능성이 있습니다. (작가 정보 찾는 로직)
+@Table(
+        name = "authors", // 추후 수정될 가능성이 있습니다. (작가 정보 찾는 로직)
+        uniqueConstraints = {
+                // 이름 조회 인덱스 + 동시 임포트 시 중복 작가 생성 방지 (INSERT IGNORE 기준)
+                // 기존 중복 이름이 있으면 ddl-auto가 만들지 못하므로 AuthorIdentityMergeService가 병합 후 생성
+                @UniqueConstraint(name = "uk_authors_name", columnNames = "name")
+        },
+        indexes = {
+                // 위키데이터 보강 워커: 대기/실패 작가 스캔
+                @Index(name = "idx_authors_wikidata_status", columnList = "wikidata_status, author_id"),
+                // 위키데이터 보강 워커: 재시도 시각이 지난 FAILED 작가 범위 스캔
+                @Index(name = "idx_authors_wikidata_retry", columnList = "wikidata_status, wikidata_checked_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Authors extends BaseEntity {
@@ -31,16 +47,43 @@ public class Authors extends BaseEntity {
     @Column(name = "wikidata_id", length = 20)
     private String wikidataId;
 
-    @Column(name = "wikidata_raw_json", columnDefinition = "TEXT")
-    private String wikidataRawJson;
+    // 위키데이터 원문(wikidata_raw_json)은 저장하지 않고 아래 컬럼으로 필요한 값만 추출 (WikidataEntityParser)
+
+    @Column(name = "name_en", length = 100)
+    private String nameEn;
+
+    @Column(name = "birth_date")
+    private LocalDate birthDate;
+
+    @Column(name = "nationality", length = 100)
+    private String nationality;
+
+    @Column(name = "occupation", length = 255)
+    private String occupation;
+
+    @Column(name = "short_intro", length = 500) // 위키데이터 한 줄 설명
+    private String shortIntro;
+
+    @Column(name = "wikipedia_url", length = 500)
+    private String wikipediaUrl;
+
+    /** 위키데이터 보강 워커 진행 상태 (NULL = 미시도) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "wikidata_status", length = 20)
+    private AuthorEnrichmentStatus enrichmentStatus;
+
+    @Column(name = "wikidata_checked_at")
+    private LocalDateTime enrichmentCheckedAt;
+
+    @Column(name = "wikidata_attempts")
+    private Integer enrichmentAttempts;
 
     @Builder
-    public Authors(String name, String profileImageUrl, String biography, String wikidataId, String wikidataRawJson) {
+    public Authors(String name, String profileImageUrl, String biography, String wikidataId) {
         this.name = name;
         this.profileImageUrl = profileImageUrl;
         this.biography = biography;
         this.wikidataId = wikidataId;
-        this.wikidataRawJson = wikidataRawJson;
     }
 
     public static Authors ofName(String name) {
@@ -58,16 +101,38 @@ public class Authors extends BaseEntity {
         return this.wikidataId != null && !this.wikidataId.isBlank();
     }
 
+    /** 보강 재요청 (다음 워커 주기에 다시 처리) */
+    public void requestEnrichment() {
+        this.enrichmentStatus = AuthorEnrichmentStatus.PENDING;
+        this.enrichmentAttempts = 0;
+    }
+
+    /** 워커 시도 결과 기록 */
+    public void markEnrichment(AuthorEnrichmentStatus status) {
+        this.enrichmentStatus = status;
+        this.enrichmentCheckedAt = LocalDateTime.now();
+        this.enrichmentAttempts = (enrichmentAttempts == null ? 0 : enrichmentAttempts) + 1;
+    }
+
     public void applyWikidataEnrichment(AuthorWikidataEnrichment enrichment) {
         if (enrichment == null) return;
 
         this.wikidataId = enrichment.wikidataQid();
-        this.wikidataRawJson = enrichment.rawJson();
+        if (enrichment.nameEn() != null) this.nameEn = enrichment.nameEn();
+        if (enrichment.birthDate() != null) this.birthDate = enrichment.birthDate();
+        if (enrichment.nationality() != null) this.nationality = enrichment.nationality();
+        if (enrichment.occupation() != null) this.occupation = enrichment.occupation();
+        if (enrichment.shortIntro() != null) this.shortIntro = enrichment.shortIntro();
+        if (enrichment.wikipediaUrl() != null) this.wikipediaUrl = enrichment.wikipediaUrl();
+        if ((this.profileImageUrl == null || this.profileImageUrl.isBlank()) && enrichment.profileImageUrl() != null) {
+            this.profileImageUrl = enrichment.profileImageUrl();
+        }
 
         // biography가 없으면 bio로 채움
         if ((this.biography == null || this.biography.isBlank()) && enrichment.bio() != null) {
             this.biography = enrichment.bio();
         }
+        markEnrichment(AuthorEnrichmentStatus.DONE);
     }
 }
 
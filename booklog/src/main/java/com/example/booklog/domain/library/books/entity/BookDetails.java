@@ -0,0 +1,37 @@
+package com.example.booklog.domain.library.books.entity;
+
+import com.example.booklog.global.common.BaseEntity;
+import com.example.booklog.global.common.GzipStringConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 상세 (books 1:1 분리 테이블)
+ *
+ * 소개글/카카오 원본 JSON은 수 KB라서 books 행에 두면 목록/검색 조회마다 같이 읽힌다.
+ * 상세 화면에서만 book_id로 조회하고, 저장은 gzip으로 압축한다.
+ * (쓰기는 임포트 경로의 BookBulkJdbcRepository.upsertDetails)
+ */
+@Entity
+@Table(name = "book_details")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookDetails extends BaseEntity {
+
+    /** books.book_id와 동일 */
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    /** ERD: contents (gzip) */
+    @Convert(converter = GzipStringConverter.class)
+    @Column(name = "contents_gz", columnDefinition = "MEDIUMBLOB")
+    private String description;
+
+    /** ERD: raw_json (gzip) */
+    @Convert(converter = GzipStringConverter.class)
+    @Column(name = "raw_json_gz", columnDefinition = "MEDIUMBLOB")
+    private String rawData;
+}
@@ -1,25 +1,38 @@
 package com.example.booklog.domain.library.books.entity;
 
+import com.example.booklog.domain.library.books.converter.IsbnNormalizer;
 import com.example.booklog.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 
 @Entity
 @Table(
         name = "books",
+        uniqueConstraints = {
+                // 도서 동일성 기준 (ISBN-10/13을 ISBN-13으로 정규화, IsbnNormalizer)
+                @UniqueConstraint(name = "uk_books_canonical_isbn", columnNames = "canonical_isbn")
+        },
         indexes = {
                 @Index(name = "idx_books_title", columnList = "title"),
-                @Index(name = "idx_books_isbn13", columnList = "isbn13")
+                // 검색 1단계(id 페이지) 커버링 인덱스: title 필터 + 출판일 정렬을 테이블 접근 없이 처리
+                @Index(name = "idx_books_title_published", columnList = "title, published_at"),
+                @Index(name = "idx_books_isbn13", columnList = "isbn13"),
+                // ISBN 없는 도서의 동일성 기준
+                @Index(name = "idx_books_kakao_url", columnList = "kakao_url"),
+                // 재동기화 스케줄러: 오래된 순 스캔
+                @Index(name = "idx_books_synced_at", columnList = "synced_at")
         }
 )
 @Getter
@@ -35,13 +48,6 @@ public class Books extends BaseEntity {
     @Column(name = "title", length = 255, nullable = false)
     private String title;
 
-    /**
-     * 너는 "description"이라는 도메인 이름을 쓰고 싶음.
-     * ERD: contents
-     */
-    @Column(name = "contents", columnDefinition = "TEXT")
-    private String description;
-
     /**
      * 너는 "detailUrl"을 쓰고 싶음.
      * ERD: kakao_url
@@ -62,6 +68,10 @@ public class Books extends BaseEntity {
     @Column(name = "isbn13", length = 20)
     private String isbn13;
 
+    /** 정규화된 ISBN-13 (체크섬 검증, 없으면 NULL) - isbn 원문에서 자동 계산 */
+    @Column(name = "canonical_isbn", length = 13)
+    private String canonicalIsbn;
+
     /** ERD: published_at (DATE) */
     @Column(name = "published_at")
     private LocalDate publishedDate;
@@ -82,13 +92,15 @@ public class Books extends BaseEntity {
     @Column(name = "source", length = 30, nullable = false)
     private BookSource source = BookSource.KAKAO;
 
+    // 소개글(contents)과 카카오 원본(raw_json)은 목록/검색 조회마다 딸려오지 않도록
+    // book_details로 분리 (BookDetails, 상세 화면에서만 조회)
+
     /**
-     * 너는 rawData(String JSON)을 쓰고 싶음.
-     * ERD: raw_json
+     * 카카오 원본(raw_json)의 SHA-256 (hex)
+     * 재임포트 시 카카오 응답이 같으면 갱신을 건너뛰기 위함 (불필요한 UPDATE/binlog 방지)
      */
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "raw_json", columnDefinition = "JSON")
-    private String rawData;
+    @Column(name = "payload_hash", length = 64)
+    private String payloadHash;
 
     /**
      * 너는 lastSyncedAt을 쓰고 싶음.
@@ -107,30 +119,29 @@ public class Books extends BaseEntity {
     }
 
     @Builder
-    public Books(String title, String description, String detailUrl,
+    public Books(String title, String detailUrl,
                  String isbn, String isbn10, String isbn13,
                  LocalDate publishedDate, String thumbnailUrl,
-                 String publisherName, BookSource source, String rawData) {
+                 String publisherName, BookSource source, String payloadHash) {
         this.title = title;
-        this.description = description;
         this.detailUrl = detailUrl;
         this.isbn = isbn;
         this.isbn10 = isbn10;
         this.isbn13 = isbn13;
+        this.canonicalIsbn = canonicalIsbnOf(isbn, isbn10, isbn13);
         this.publishedDate = publishedDate;
         this.thumbnailUrl = thumbnailUrl;
         this.publisherName = publisherName;
         this.source = (source != null) ? source : BookSource.KAKAO;
-        this.rawData = rawData;
+        this.payloadHash = payloadHash;
         this.lastSyncedAt = LocalDateTime.now();
     }
 
     /** 업데이트 시도 동일 (필드명은 네 스타일 유지) */
-    public void updateBasicInfo(String title, String description, String thumbnailUrl,
+    public void updateBasicInfo(String title, String thumbnailUrl,
                                 String detailUrl, String publisherName, LocalDate publishedDate,
-                                String isbn, String isbn10, String isbn13, String rawData) {
+                                String isbn, String isbn10, String isbn13, String payloadHash) {
         this.title = title;
-        this.description = description;
         this.thumbnailUrl = thumbnailUrl;
         this.detailUrl = detailUrl;
         this.publisherName = publisherName;
@@ -138,10 +149,34 @@ public class Books extends BaseEntity {
         this.isbn = isbn;
         this.isbn10 = isbn10;
         this.isbn13 = isbn13;
-        this.rawData = rawData;
+        this.canonicalIsbn = canonicalIsbnOf(isbn, isbn10, isbn13);
+        this.payloadHash = payloadHash;
         this.lastSyncedAt = LocalDateTime.now();
     }
 
+    /** 저장된 카카오 응답과 동일한지 (동일하면 updateBasicInfo 생략 가능) */
+    public boolean hasSamePayload(String rawData) {
+        return payloadHash != null && payloadHash.equals(hashOf(rawData));
+    }
+
+    public static String hashOf(String rawData) {
+        if (rawData == null) return null;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawData.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 원문 → isbn13 → isbn10 순으로 유효한 값 사용 */
+    public static String canonicalIsbnOf(String isbn, String isbn10, String isbn13) {
+        String canonical = IsbnNormalizer.canonical(isbn);
+        if (canonical == null) canonical = IsbnNormalizer.canonical(isbn13);
+        if (canonical == null) canonical = IsbnNormalizer.canonical(isbn10);
+        return canonical;
+    }
+
     public void replaceBookAuthors(List<BookAuthors> newMappings) {
         this.bookAuthors.clear();
         for (BookAuthors mapping : newMappings) {
@@ -0,0 +1,99 @@
+package com.example.booklog.domain.library.books.entity;
+
+import com.example.booklog.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카탈로그 대량 수집 작업 + 체크포인트
+ *
+ * checkpointLine까지는 upsert가 커밋된 상태이므로, 재개 시 그 다음 줄부터 읽는다.
+ * (배치 단위로 커밋 → 체크포인트 갱신, 중간에 죽으면 해당 배치만 다시 처리)
+ *
+ * owner/leaseUntil: 실행 중인 노드와 임대 만료 시각. 조건부 UPDATE(CatalogIngestionJobRepository.claim/renewLease)로만
+ * 바꾸므로 엔티티 저장이 다른 노드의 소유권을 덮어쓰지 않는다.
+ */
+@Entity
+@Table(
+        name = "catalog_ingestion_jobs",
+        indexes = {
+                @Index(name = "idx_ingestion_jobs_status", columnList = "status")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogIngestionJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    /** seed 디렉터리 기준 파일명 (한 줄에 ISBN 또는 검색어 하나) */
+    @Column(name = "source_file", length = 255, nullable = false)
+    private String sourceFile;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private IngestionJobStatus status;
+
+    /** 처리 완료된 줄 수 (다음 재개 위치) */
+    @Column(name = "checkpoint_line", nullable = false)
+    private long checkpointLine;
+
+    @Column(name = "imported_books", nullable = false)
+    private long importedBooks;
+
+    @Column(name = "error_count", nullable = false)
+    private long errorCount;
+
+    /** 실제 처리에 쓴 누적 시간 (중지/장애 구간 제외, 처리량 계산용) */
+    @Column(name = "run_millis", nullable = false)
+    private long runMillis;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "owner", length = 100, updatable = false)
+    private String owner;
+
+    @Column(name = "lease_until", updatable = false)
+    private LocalDateTime leaseUntil;
+
+    public static CatalogIngestionJob start(String sourceFile, String owner, LocalDateTime leaseUntil) {
+        CatalogIngestionJob job = new CatalogIngestionJob();
+        job.sourceFile = sourceFile;
+        job.status = IngestionJobStatus.RUNNING;
+        job.owner = owner;
+        job.leaseUntil = leaseUntil;
+        return job;
+    }
+
+    public void checkpoint(long line, long imported, long errors, long elapsedMillis) {
+        this.checkpointLine = line;
+        this.importedBooks += imported;
+        this.errorCount += errors;
+        this.runMillis += elapsedMillis;
+    }
+
+    public void stop() {
+        this.status = IngestionJobStatus.STOPPED;
+    }
+
+    public void complete() {
+        this.status = IngestionJobStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.status = IngestionJobStatus.FAILED;
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+    }
+
+    public double booksPerSecond() {
+        return runMillis == 0 ? 0 : importedBooks * 1000.0 / runMillis;
+    }
+}
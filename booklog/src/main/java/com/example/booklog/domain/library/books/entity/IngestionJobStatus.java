@@ -0,0 +1,8 @@
+package com.example.booklog.domain.library.books.entity;
+
+public enum IngestionJobStatus {
+    RUNNING,    // 진행 중 (서버가 죽으면 기동 시 체크포인트부터 재개)
+    STOPPED,    // 관리자가 중지 → resume으로 재개
+    FAILED,     // 파일 오류 등으로 중단
+    COMPLETED   // 끝까지 처리
+}
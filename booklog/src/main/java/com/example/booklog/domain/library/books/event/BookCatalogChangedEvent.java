@@ -0,0 +1,16 @@
+package com.example.booklog.domain.library.books.event;
+
+import java.util.List;
+
+/**
+ * 카탈로그(books/authors) 변경 이벤트
+ * 카카오 임포트 등으로 도서가 추가/갱신되었을 때 발행
+ *
+ * @param source  변경을 일으킨 작업 (예: "search-import")
+ * @param bookIds 변경된 도서 ID 목록
+ */
+public record BookCatalogChangedEvent(
+        String source,
+        List<Long> bookIds
+) {
+}
@@ -7,12 +7,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorsRepository extends JpaRepository<Authors, Long> {
 
     Optional<Authors> findByName(String name);
 
+    List<Authors> findAllByNameIn(Collection<String> names);
+
     // ✅ wikidata_id가 String이므로 String으로 변경
     Optional<Authors> findByWikidataId(String wikidataId);
 
@@ -28,6 +33,25 @@ public interface AuthorsRepository extends JpaRepository<Authors, Long> {
            "WHERE a.name LIKE %:keyword%")
     Page<Authors> searchByName(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 작가명 FULLTEXT(ngram) 검색 (정확도순)
+     *
+     * @param booleanQuery BOOLEAN MODE 쿼리 (FullTextSearchSupport.toBooleanQuery)
+     * @param pageable 페이징 정보
+     * @return 검색된 작가 페이지
+     */
+    @Query(value = """
+        SELECT a.* FROM authors a
+        WHERE MATCH(a.name) AGAINST (:q IN BOOLEAN MODE)
+        ORDER BY MATCH(a.name) AGAINST (:q IN BOOLEAN MODE) DESC, a.author_id ASC
+        """,
+        countQuery = """
+        SELECT COUNT(*) FROM authors a
+        WHERE MATCH(a.name) AGAINST (:q IN BOOLEAN MODE)
+        """,
+        nativeQuery = true)
+    Page<Authors> searchByNameFullText(@Param("q") String booleanQuery, Pageable pageable);
+
     /**
      * 작가명으로 검색 (총 개수)
      *
@@ -35,4 +59,37 @@ public interface AuthorsRepository extends JpaRepository<Authors, Long> {
      * @return 검색된 작가 총 개수
      */
     long countByNameContaining(String keyword);
+
+    /**
+     * 위키데이터 보강 대상 (워커 큐)
+     * - QID 없는 미시도(NULL) 작가
+     * - 재요청(PENDING) 작가 (QID가 있으면 검색 없이 엔티티만 다시 추출)
+     * - 실패(FAILED) 후 retryBefore 이전에 시도했고 maxAttempts 미만인 작가
+     *
+     * 상태별 조건을 OR로 묶으면 인덱스를 못 타므로 상태마다 따로 뽑아 합침
+     * (NULL/PENDING: idx_authors_wikidata_status, FAILED: idx_authors_wikidata_retry 범위 스캔)
+     */
+    @Query(value = """
+        SELECT a.* FROM (
+            (SELECT author_id FROM authors
+             WHERE wikidata_status IS NULL AND wikidata_id IS NULL
+             ORDER BY author_id LIMIT :limit)
+            UNION ALL
+            (SELECT author_id FROM authors
+             WHERE wikidata_status = 'PENDING'
+             ORDER BY author_id LIMIT :limit)
+            UNION ALL
+            (SELECT author_id FROM authors
+             WHERE wikidata_status = 'FAILED'
+               AND wikidata_checked_at < :retryBefore
+               AND wikidata_attempts < :maxAttempts
+             ORDER BY author_id LIMIT :limit)
+        ) c
+        JOIN authors a ON a.author_id = c.author_id
+        ORDER BY a.author_id ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Authors> findEnrichmentCandidates(@Param("retryBefore") LocalDateTime retryBefore,
+                                           @Param("maxAttempts") int maxAttempts,
+                                           @Param("limit") int limit);
 }
@@ -0,0 +1,232 @@
+package com.example.booklog.domain.library.books.repository;
+
+import com.example.booklog.domain.library.books.entity.AuthorRole;
+import com.example.booklog.domain.library.books.entity.Books;
+import com.example.booklog.global.common.GzipStringConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카카오 임포트용 JDBC 배치 쓰기
+ *
+ * JPA save()는 IDENTITY 전략 때문에 insert가 건별로 나가므로,
+ * 신규 도서/작가/매핑은 batchUpdate로 한 번에 보낸다.
+ * (rewriteBatchedStatements=true 이면 드라이버가 multi-row insert 한 번으로 합쳐 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBulkJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 신규 도서 일괄 insert (id는 호출 측에서 canonical_isbn/kakao_url로 재조회)
+     * 동시 임포트로 같은 ISBN이 먼저 들어갔으면 건너뜀 (uk_books_canonical_isbn)
+     */
+    public void insertBooks(List<Books> books) {
+        if (books.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO books (title, kakao_url, isbn_raw, isbn10, isbn13, canonical_isbn, published_at,
+                                   thumbnail_url, publisher_name, source, payload_hash,
+                                   synced_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE book_id = book_id
+                """, books, books.size(), (ps, b) -> {
+            ps.setString(1, b.getTitle());
+            ps.setString(2, b.getDetailUrl());
+            ps.setString(3, b.getIsbn());
+            ps.setString(4, b.getIsbn10());
+            ps.setString(5, b.getIsbn13());
+            ps.setString(6, b.getCanonicalIsbn());
+            ps.setDate(7, b.getPublishedDate() == null ? null : Date.valueOf(b.getPublishedDate()));
+            ps.setString(8, b.getThumbnailUrl());
+            ps.setString(9, b.getPublisherName());
+            ps.setString(10, b.getSource().name());
+            ps.setString(11, b.getPayloadHash());
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+        });
+    }
+
+    /**
+     * 도서 상세(소개글/카카오 원본) 일괄 upsert (gzip 압축 저장)
+     */
+    public void upsertDetails(List<BookDetailsRow> rows) {
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO book_details (book_id, contents_gz, raw_json_gz, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE contents_gz = VALUES(contents_gz),
+                                        raw_json_gz = VALUES(raw_json_gz),
+                                        updated_at = VALUES(updated_at)
+                """, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.bookId());
+            ps.setBytes(2, GzipStringConverter.compress(row.description()));
+            ps.setBytes(3, GzipStringConverter.compress(row.rawData()));
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * 동기화 시각 일괄 갱신 (내용이 같아 upsert가 생략된 도서도 재동기화 대상에서 빠지도록)
+     */
+    public void touchSyncedAt(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) return;
+
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(bookIds);
+        jdbcTemplate.update("UPDATE books SET synced_at = ? WHERE book_id IN (" + placeholders + ")", args.toArray());
+    }
+
+    /**
+     * 작가 일괄 insert (이름만)
+     * 이미 있는 이름(uk_authors_name 충돌)은 무시 → 동시에 같은 작가를 만들어도 한 행만 남음
+     */
+    public void insertAuthorNamesIgnoringDuplicates(Collection<String> names) {
+        if (names.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> list = List.copyOf(names);
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO authors (name, created_at, updated_at) VALUES (?, ?, ?)",
+                list, list.size(), (ps, name) -> {
+                    ps.setString(1, name);
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, now);
+                });
+    }
+
+    /**
+     * 작가명 → author_id 일괄 조회 (키는 DB에 저장된 이름)
+     */
+    public Map<String, Long> findAuthorIdsByNames(Collection<String> names) {
+        if (names.isEmpty()) return Map.of();
+
+        String placeholders = String.join(",", Collections.nCopies(names.size(), "?"));
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT author_id, name FROM authors WHERE name IN (" + placeholders + ")",
+                rs -> {
+                    ids.putIfAbsent(rs.getString("name"), rs.getLong("author_id"));
+                },
+                names.toArray());
+        return ids;
+    }
+
+    /**
+     * 도서들의 book_authors 매핑을 들어온 목록에 맞춰 조정 (diff 기반)
+     *
+     * 기존 행과 (author_id, role, display_order)를 비교해서
+     * 새 행만 insert, 빠진 행만 delete, 순서가 바뀐 행만 update 한다.
+     * 대부분의 재임포트는 변경이 없으므로 조회 1회로 끝난다.
+     *
+     * @param incomingByBook 도서별 최종 매핑 (키에 포함된 도서만 조정 대상)
+     */
+    public BookAuthorsChanges reconcileBookAuthors(Map<Long, List<BookAuthorRow>> incomingByBook) {
+        if (incomingByBook.isEmpty()) return BookAuthorsChanges.NONE;
+
+        Set<Long> bookIds = incomingByBook.keySet();
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        Map<RowKey, BookAuthorRow> existing = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT book_id, author_id, role, display_order FROM book_authors WHERE book_id IN (" + placeholders + ")",
+                rs -> {
+                    BookAuthorRow row = new BookAuthorRow(
+                            rs.getLong("book_id"),
+                            rs.getLong("author_id"),
+                            AuthorRole.valueOf(rs.getString("role")),
+                            rs.getInt("display_order"));
+                    existing.put(row.key(), row);
+                },
+                bookIds.toArray());
+
+        List<BookAuthorRow> inserts = new ArrayList<>();
+        List<BookAuthorRow> updates = new ArrayList<>();
+        Set<RowKey> keep = new HashSet<>();
+        for (List<BookAuthorRow> rows : incomingByBook.values()) {
+            for (BookAuthorRow row : rows) {
+                keep.add(row.key());
+                BookAuthorRow current = existing.get(row.key());
+                if (current == null) inserts.add(row);
+                else if (current.displayOrder() != row.displayOrder()) updates.add(row);
+            }
+        }
+        List<BookAuthorRow> deletes = existing.values().stream()
+                .filter(row -> !keep.contains(row.key()))
+                .toList();
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM book_authors WHERE book_id = ? AND author_id = ? AND role = ?",
+                    deletes, deletes.size(), (ps, row) -> {
+                        ps.setLong(1, row.bookId());
+                        ps.setLong(2, row.authorId());
+                        ps.setString(3, row.role().name());
+                    });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE book_authors SET display_order = ? WHERE book_id = ? AND author_id = ? AND role = ?",
+                    updates, updates.size(), (ps, row) -> {
+                        ps.setInt(1, row.displayOrder());
+                        ps.setLong(2, row.bookId());
+                        ps.setLong(3, row.authorId());
+                        ps.setString(4, row.role().name());
+                    });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO book_authors (book_id, author_id, role, display_order) VALUES (?, ?, ?, ?)",
+                    inserts, inserts.size(), (ps, row) -> {
+                        ps.setLong(1, row.bookId());
+                        ps.setLong(2, row.authorId());
+                        ps.setString(3, row.role().name());
+                        ps.setInt(4, row.displayOrder());
+                    });
+        }
+
+        return new BookAuthorsChanges(inserts.size(), updates.size(), deletes.size());
+    }
+
+    public record BookDetailsRow(Long bookId, String description, String rawData) {}
+
+    public record BookAuthorRow(Long bookId, Long authorId, AuthorRole role, int displayOrder) {
+        RowKey key() {
+            return new RowKey(bookId, authorId, role);
+        }
+    }
+
+    private record RowKey(Long bookId, Long authorId, AuthorRole role) {}
+
+    /**
+     * 매핑 조정 결과 (실행된 배치 수 = 0이 아닌 항목 수)
+     */
+    public record BookAuthorsChanges(int inserted, int updated, int deleted) {
+        static final BookAuthorsChanges NONE = new BookAuthorsChanges(0, 0, 0);
+
+        public int statements() {
+            return (inserted > 0 ? 1 : 0) + (updated > 0 ? 1 : 0) + (deleted > 0 ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.booklog.domain.library.books.repository;
+
+import com.example.booklog.domain.library.books.entity.BookDetails;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookDetailsRepository extends JpaRepository<BookDetails, Long> {
+}
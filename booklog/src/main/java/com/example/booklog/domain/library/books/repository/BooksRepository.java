@@ -9,14 +9,27 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 
 public interface BooksRepository extends JpaRepository<Books, Long> {
     Optional<Books> findByIsbn13(String isbn13);
+    Optional<Books> findByCanonicalIsbn(String canonicalIsbn);
     Optional<Books> findByDetailUrl(String detailUrl);
     Optional<Books> findByTitle(String title);
+    List<Books> findAllByIsbn13In(Collection<String> isbn13s);
+    List<Books> findAllByCanonicalIsbnIn(Collection<String> canonicalIsbns);
+
+    /**
+     * 임포트 upsert 기준(canonical_isbn 또는 kakao_url)으로 기존 도서 일괄 조회
+     * 둘 다 인덱스(uk_books_canonical_isbn / idx_books_kakao_url) 조회
+     */
+    @Query("SELECT b FROM Books b WHERE b.canonicalIsbn IN :isbns OR b.detailUrl IN :urls")
+    List<Books> findAllByCanonicalIsbnInOrDetailUrlIn(@Param("isbns") Collection<String> canonicalIsbns,
+                                                      @Param("urls") Collection<String> urls);
 
     /**
      * 홈 화면용 title 일괄 조회
@@ -29,6 +42,17 @@ public interface BooksRepository extends JpaRepository<Books, Long> {
     @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
     List<Books> findAllByTitleIn(@Param("titles") List<String> titles);
 
+    /**
+     * 홈 화면용 id 일괄 조회 (랭킹 결과)
+     * Fetch Join으로 BookAuthors와 Authors를 함께 조회
+     */
+    @Query("SELECT DISTINCT b FROM Books b " +
+           "LEFT JOIN FETCH b.bookAuthors ba " +
+           "LEFT JOIN FETCH ba.author a " +
+           "WHERE b.id IN :ids")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<Books> findAllWithAuthorsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 특정 작가의 도서 목록 조회 (최신순)
      * Fetch Join으로 BookAuthors와 Authors를 함께 조회하여 N+1 문제 방지
@@ -74,43 +98,135 @@ public interface BooksRepository extends JpaRepository<Books, Long> {
     long countBooksByAuthorIds(@Param("authorIds") List<Long> authorIds);
 
     /**
-     * 도서 제목으로 검색 (페이징 및 정렬 지원)
+     * 도서 제목 검색 1단계: 페이지에 해당하는 bookId만 조회
      *
-     * [정렬 옵션]
-     * - LATEST: publishedDate DESC, id DESC
-     * - OLDEST: publishedDate ASC, id ASC
-     * - TITLE: title ASC
-     * - AUTHOR: 첫 번째 저자명 ASC (BookAuthors.authorOrder = 1)
+     * fetch join 없이 id만 조회하므로 DB에서 LIMIT/OFFSET이 적용된다.
+     * (fetch join + Page는 Hibernate가 전체 결과를 메모리에 올린 뒤 페이징함)
+     * 2단계에서 findAllWithAuthorsByIdIn으로 해당 페이지 도서만 저자와 함께 조회한다.
+     *
+     * [정렬] pageable의 Sort 사용 (LATEST/OLDEST/TITLE). AUTHOR는 searchIdsByTitleOrderByAuthor 사용
      *
      * @param keyword 검색 키워드 (제목 LIKE 검색)
-     * @param pageable 페이징 및 정렬 정보
-     * @return 도서 페이지
+     * @param pageable 페이징 및 정렬 정보 (다음 페이지 판단을 위해 size+1개 요청 가능)
+     * @return bookId 목록 (정렬 순서 유지)
      */
     @Query("""
-        SELECT DISTINCT b FROM Books b
-        LEFT JOIN FETCH b.bookAuthors ba
-        LEFT JOIN FETCH ba.author a
+        SELECT b.id FROM Books b
         WHERE b.title LIKE %:keyword%
         """)
-    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
-    Page<Books> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
+    List<Long> searchIdsByTitle(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 도서 제목 또는 저자명으로 검색 (페이징 및 정렬 지원)
-     *
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 및 정렬 정보
-     * @return 도서 페이지
+     * 도서 제목 검색 1단계 (저자순)
+     * 첫 번째 저자(role=AUTHOR, displayOrder=1)만 조인하므로 도서당 한 행만 나온다.
      */
     @Query("""
-        SELECT DISTINCT b FROM Books b
-        LEFT JOIN FETCH b.bookAuthors ba
-        LEFT JOIN FETCH ba.author a
+        SELECT b.id FROM Books b
+        LEFT JOIN b.bookAuthors ba
+            ON ba.role = com.example.booklog.domain.library.books.entity.AuthorRole.AUTHOR
+            AND ba.displayOrder = 1
+        LEFT JOIN ba.author a
         WHERE b.title LIKE %:keyword%
-        OR a.name LIKE %:keyword%
+        ORDER BY a.name ASC NULLS LAST, b.id ASC
         """)
-    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
-    Page<Books> searchByTitleOrAuthor(@Param("keyword") String keyword, Pageable pageable);
-}
+    List<Long> searchIdsByTitleOrderByAuthor(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 도서 제목 검색 건수 (필요할 때만 별도 호출)
+     */
+    @Query("""
+        SELECT COUNT(b) FROM Books b
+        WHERE b.title LIKE %:keyword%
+        """)
+    long countByTitleKeyword(@Param("keyword") String keyword);
 
+    /**
+     * FULLTEXT(ngram) 도서 제목 검색 1단계: bookId만 조회
+     * 정렬은 pageable의 Sort 사용 (컬럼명 기준: published_at, title, book_id)
+     *
+     * @param booleanQuery BOOLEAN MODE 쿼리 (FullTextSearchSupport.toBooleanQuery)
+     */
+    @Query(value = """
+        SELECT b.book_id FROM books b
+        WHERE MATCH(b.title) AGAINST (:q IN BOOLEAN MODE)
+        """, nativeQuery = true)
+    List<Long> searchIdsByTitleFullText(@Param("q") String booleanQuery, Pageable pageable);
+
+    /**
+     * FULLTEXT 도서 제목 검색 1단계 (오래된순)
+     * MySQL은 ASC에서 NULL이 앞에 오므로 출판일 없는 도서를 뒤로 보냄 (LIKE 검색의 nullsLast와 같은 순서)
+     */
+    @Query(value = """
+        SELECT b.book_id FROM books b
+        WHERE MATCH(b.title) AGAINST (:q IN BOOLEAN MODE)
+        ORDER BY b.published_at IS NULL, b.published_at ASC, b.book_id ASC
+        """, nativeQuery = true)
+    List<Long> searchIdsByTitleFullTextOrderByOldest(@Param("q") String booleanQuery, Pageable pageable);
+
+    /**
+     * FULLTEXT 도서 제목 검색 1단계 (정확도순)
+     */
+    @Query(value = """
+        SELECT b.book_id FROM books b
+        WHERE MATCH(b.title) AGAINST (:q IN BOOLEAN MODE)
+        ORDER BY MATCH(b.title) AGAINST (:q IN BOOLEAN MODE) DESC, b.book_id DESC
+        """, nativeQuery = true)
+    List<Long> searchIdsByTitleFullTextOrderByRelevance(@Param("q") String booleanQuery, Pageable pageable);
+
+    /**
+     * FULLTEXT 도서 제목 검색 1단계 (저자순, 첫 번째 저자 기준)
+     */
+    @Query(value = """
+        SELECT b.book_id FROM books b
+        LEFT JOIN book_authors ba
+            ON ba.book_id = b.book_id AND ba.role = 'AUTHOR' AND ba.display_order = 1
+        LEFT JOIN authors a ON a.author_id = ba.author_id
+        WHERE MATCH(b.title) AGAINST (:q IN BOOLEAN MODE)
+        ORDER BY a.name IS NULL, a.name ASC, b.book_id ASC
+        """, nativeQuery = true)
+    List<Long> searchIdsByTitleFullTextOrderByAuthor(@Param("q") String booleanQuery, Pageable pageable);
+
+    /**
+     * FULLTEXT 도서 제목 검색 건수
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM books b
+        WHERE MATCH(b.title) AGAINST (:q IN BOOLEAN MODE)
+        """, nativeQuery = true)
+    long countByTitleFullText(@Param("q") String booleanQuery);
 
+    /**
+     * 재동기화 대상 중 최근 활동(서재 담기/상태 변경, 북로그 작성)이 많은 도서 id
+     * 활동 범위는 idx_user_books_updated_book, idx_booklog_posts_feed(status, created_at)로 읽음
+     *
+     * @param cutoff 이 시각 이전에 동기화된 도서가 대상
+     * @param since 활동 집계 시작 시각
+     * @param limit 최대 개수
+     */
+    @Query(value = """
+        SELECT a.book_id FROM (
+            SELECT ub.book_id FROM user_books ub WHERE ub.updated_at >= :since
+            UNION ALL
+            SELECT p.book_id FROM booklog_posts p WHERE p.status = 'PUBLISHED' AND p.created_at >= :since
+        ) a
+        JOIN books b ON b.book_id = a.book_id
+        WHERE b.synced_at < :cutoff
+        GROUP BY a.book_id
+        ORDER BY COUNT(*) DESC, MIN(b.synced_at) ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findStaleIdsByRecentActivity(@Param("cutoff") LocalDateTime cutoff,
+                                            @Param("since") LocalDateTime since,
+                                            @Param("limit") int limit);
+
+    /**
+     * 재동기화 대상 도서 id (오래된 순, idx_books_synced_at 사용)
+     */
+    @Query(value = """
+        SELECT b.book_id FROM books b
+        WHERE b.synced_at < :cutoff
+        ORDER BY b.synced_at ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findStaleIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
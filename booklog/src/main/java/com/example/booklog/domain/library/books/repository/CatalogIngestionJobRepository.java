@@ -0,0 +1,51 @@
+package com.example.booklog.domain.library.books.repository;
+
+import com.example.booklog.domain.library.books.entity.CatalogIngestionJob;
+import com.example.booklog.domain.library.books.entity.IngestionJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CatalogIngestionJobRepository extends JpaRepository<CatalogIngestionJob, Long> {
+
+    List<CatalogIngestionJob> findAllByStatus(IngestionJobStatus status);
+
+    List<CatalogIngestionJob> findTop20ByOrderByIdDesc();
+
+    /**
+     * 작업 실행권 획득 (RUNNING으로 바꾸고 owner 기록)
+     * 완료된 작업, 다른 노드가 임대 중인 RUNNING 작업은 제외 → 한 노드만 1을 받음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE catalog_ingestion_jobs
+            SET status = 'RUNNING', owner = :owner, lease_until = :leaseUntil, last_error = NULL
+            WHERE job_id = :jobId
+              AND status <> 'COMPLETED'
+              AND (status <> 'RUNNING' OR lease_until IS NULL OR lease_until < :now)
+            """, nativeQuery = true)
+    int claim(@Param("jobId") Long jobId,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 임대 연장 (배치마다)
+     * 0이면 중지됐거나 임대가 만료돼 다른 노드가 가져간 것
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE catalog_ingestion_jobs SET lease_until = :leaseUntil
+            WHERE job_id = :jobId AND owner = :owner AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int renewLease(@Param("jobId") Long jobId,
+                   @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+}
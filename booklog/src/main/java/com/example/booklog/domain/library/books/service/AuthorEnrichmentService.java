@@ -1,59 +1,419 @@
 package com.example.booklog.domain.library.books.service;
 
 import com.example.booklog.domain.library.books.dto.AuthorWikidataEnrichment;
+import com.example.booklog.domain.library.books.dto.WikidataEntityFacts;
 import com.example.booklog.domain.library.books.dto.WikidataSearchResponse;
+import com.example.booklog.domain.library.books.entity.AuthorAwards;
+import com.example.booklog.domain.library.books.entity.AuthorEnrichmentStatus;
 import com.example.booklog.domain.library.books.entity.Authors;
+import com.example.booklog.domain.library.books.repository.AuthorRewardRepository;
 import com.example.booklog.domain.library.books.repository.AuthorsRepository;
 import com.example.booklog.domain.library.books.service.client.WikidataClient;
 import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
 import com.example.booklog.global.common.apiPayload.exception.GeneralException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
+/**
+ * 작가 위키데이터 보강 워커
+ *
+ * authors.wikidata_status가 큐 역할을 한다 (NULL/PENDING/재시도 가능한 FAILED = 대기).
+ * [배치 1회]
+ * 1. 대기 작가 batch-size명 조회
+ * 2. wbsearchentities로 QID 검색 (search-concurrency 동시, search-interval-millis 간격)
+ * 3. wbgetentities로 엔티티 상세를 최대 50개씩 한 번에 조회 (스트리밍 파싱, 필요한 claim만 추출)
+ * 4. 수상/직업/국적 라벨을 같은 방식으로 한 번에 조회
+ * 5. 작가 컬럼 + author_awards를 배치당 짧은 트랜잭션 1개로 저장 (원문 JSON은 저장하지 않음)
+ *
+ * HTTP 호출 중에는 트랜잭션/커넥션을 잡지 않는다.
+ * 쿼터 초과나 서킷 오픈으로 거절되면 해당 작가는 상태를 바꾸지 않고 이번 주기를 끝낸다 (다음 주기에 이어서).
+ *
+ * 지표: author.enrichment.authors{result=done|not_found|failed|deferred}
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthorEnrichmentService {
 
     private final AuthorsRepository authorsRepository;
+    private final AuthorRewardRepository authorRewardRepository;
+    private final AuthorResolver authorResolver;
     private final WikidataClient wikidataClient;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor executor;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int searchConcurrency;
+    private final long searchIntervalMillis;
+    private final long retryAfterMinutes;
+    private final int maxAttempts;
 
+    private final Counter doneCounter;
+    private final Counter notFoundCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean legacyRequeued = new AtomicBoolean(false);
+
+    public AuthorEnrichmentService(AuthorsRepository authorsRepository,
+                                   AuthorRewardRepository authorRewardRepository,
+                                   AuthorResolver authorResolver,
+                                   WikidataClient wikidataClient,
+                                   TransactionTemplate transactionTemplate,
+                                   JdbcTemplate jdbcTemplate,
+                                   @Qualifier("authorEnrichmentExecutor") TaskExecutor executor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${wikidata.enrichment.enabled:true}") boolean enabled,
+                                   @Value("${wikidata.enrichment.batch-size:50}") int batchSize,
+                                   @Value("${wikidata.enrichment.max-batches-per-run:40}") int maxBatchesPerRun,
+                                   @Value("${wikidata.enrichment.search-concurrency:4}") int searchConcurrency,
+                                   @Value("${wikidata.enrichment.search-interval-millis:250}") long searchIntervalMillis,
+                                   @Value("${wikidata.enrichment.retry-after-minutes:60}") long retryAfterMinutes,
+                                   @Value("${wikidata.enrichment.max-attempts:3}") int maxAttempts) {
+        this.authorsRepository = authorsRepository;
+        this.authorRewardRepository = authorRewardRepository;
+        this.authorResolver = authorResolver;
+        this.wikidataClient = wikidataClient;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, Math.min(batchSize, WikidataClient.MAX_IDS_PER_REQUEST));
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.searchConcurrency = Math.max(1, searchConcurrency);
+        this.searchIntervalMillis = Math.max(0, searchIntervalMillis);
+        this.retryAfterMinutes = retryAfterMinutes;
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        this.doneCounter = counter(meterRegistry, "done");
+        this.notFoundCounter = counter(meterRegistry, "not_found");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.deferredCounter = counter(meterRegistry, "deferred");
+    }
+
+    /**
+     * 작가 1명 보강 요청
+     * 바로 호출하지 않고 대기 상태로 표시한 뒤, 커밋 후 워커를 깨운다.
+     */
     @Transactional
     public void enrichAuthorByName(String authorName) {
         String normalized = authorName == null ? "" : authorName.trim();
         if (normalized.isBlank()) throw new GeneralException(ErrorStatus.AUTHOR_NAME_REQUIRED);
 
-        Authors author = authorsRepository.findByName(normalized)
+        Authors author = authorResolver.findId(normalized)
+                .flatMap(authorsRepository::findById)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.AUTHOR_NOT_FOUND));
 
         if (author.hasWikidataId()) return;
 
-        // 1) QID Search
-        WikidataSearchResponse search = wikidataClient.searchEntity(author.getName()).block();
-        Optional<String> qidOpt = pickBestQid(search);
+        author.requestEnrichment();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    triggerAsync();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wikidata.enrichment.interval-millis:60000}",
+            initialDelayString = "${wikidata.enrichment.initial-delay-millis:60000}")
+    public void scheduledRun() {
+        if (enabled) triggerAsync();
+    }
+
+    /** 워커 실행 (이미 돌고 있으면 무시) */
+    public void triggerAsync() {
+        if (!running.compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } catch (Exception e) {
+                    log.error("작가 보강 워커 실패: {}", e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (Exception e) {
+            running.set(false);
+        }
+    }
+
+    private void drain() {
+        if (legacyRequeued.compareAndSet(false, true)) {
+            requeueLegacyRawJson();
+        }
+
+        long start = System.currentTimeMillis();
+        int processed = 0;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            LocalDateTime retryBefore = LocalDateTime.now().minusMinutes(retryAfterMinutes);
+            List<Authors> batch = authorsRepository.findEnrichmentCandidates(retryBefore, maxAttempts, batchSize);
+            if (batch.isEmpty()) break;
+
+            BatchResult result = processBatch(batch);
+            processed += batch.size() - result.deferred();
+            if (result.deferred() > 0) {
+                log.info("작가 보강 - 위키데이터 쿼터/장애로 {}명 보류, 다음 주기에 이어서 진행", result.deferred());
+                break;
+            }
+        }
+
+        if (processed > 0) {
+            log.info("작가 보강 워커 - {}명 처리, {}ms", processed, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 예전 방식(wikidata_raw_json 통째 저장)으로 보강된 작가를 다시 대기열에 넣고 원문을 비운다.
+     * QID는 남아 있으므로 검색 없이 엔티티 추출만 다시 한다.
+     */
+    private void requeueLegacyRawJson() {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'authors' AND COLUMN_NAME = 'wikidata_raw_json'
+                """, Integer.class);
+        if (exists == null || exists == 0) return;
+
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("""
+                    UPDATE authors
+                    SET wikidata_raw_json = NULL, wikidata_status = 'PENDING', wikidata_attempts = 0
+                    WHERE wikidata_raw_json IS NOT NULL
+                    LIMIT 500
+                    """);
+            total += updated;
+        } while (updated > 0);
+
+        if (total > 0) {
+            log.info("작가 보강 - 위키데이터 원문 {}건 정리 후 재추출 대기열에 추가", total);
+        }
+    }
+
+    private BatchResult processBatch(List<Authors> authors) {
+        Map<Long, String> qidByAuthor = new ConcurrentHashMap<>();
+        Set<Long> failed = ConcurrentHashMap.newKeySet();
+        Set<Long> deferred = ConcurrentHashMap.newKeySet();
+
+        // 1) QID 검색 (트랜잭션 밖, 이미 QID가 있는 재요청 작가는 생략)
+        List<Authors> toSearch = new ArrayList<>();
+        for (Authors author : authors) {
+            if (author.hasWikidataId()) qidByAuthor.put(author.getId(), author.getWikidataId());
+            else toSearch.add(author);
+        }
+        Flux<Authors> source = Flux.fromIterable(toSearch);
+        if (searchIntervalMillis > 0) {
+            source = source.delayElements(Duration.ofMillis(searchIntervalMillis));
+        }
+        source.flatMap(author -> wikidataClient.searchEntity(author.getName())
+                        .map(this::pickBestQid)
+                        .doOnNext(qid -> qid.ifPresent(q -> qidByAuthor.put(author.getId(), q)))
+                        .onErrorResume(e -> {
+                            (isDeferrable(e) ? deferred : failed).add(author.getId());
+                            log.debug("위키데이터 검색 실패 - author: {}, error: {}", author.getName(), e.getMessage());
+                            return Mono.empty();
+                        }), searchConcurrency)
+                .then()
+                .block();
+
+        // 2) 엔티티 상세 (최대 50개씩 한 번에, 스트리밍 파싱으로 필요한 값만)
+        Map<String, WikidataEntityFacts> factsByQid = new HashMap<>();
+        Set<String> failedQids = new LinkedHashSet<>();
+        Set<String> deferredQids = new LinkedHashSet<>();
+        for (List<String> chunk : chunks(new LinkedHashSet<>(qidByAuthor.values()))) {
+            try {
+                Map<String, WikidataEntityFacts> res = wikidataClient.getEntityFacts(chunk).block();
+                for (String qid : chunk) {
+                    WikidataEntityFacts facts = (res == null) ? null : res.get(qid);
+                    if (facts != null) factsByQid.put(qid, facts);
+                    else failedQids.add(qid); // 삭제/병합된 엔티티
+                }
+            } catch (Exception e) {
+                (isDeferrable(e) ? deferredQids : failedQids).addAll(chunk);
+                log.debug("위키데이터 엔티티 조회 실패 - {}건, error: {}", chunk.size(), e.getMessage());
+            }
+        }
+
+        // 3) 수상/수상작/직업/국적 라벨 (best effort, 실패하면 라벨 없는 항목만 빠짐)
+        Map<String, String> labels = resolveLabels(factsByQid.values());
+
+        // 4) 배치당 짧은 트랜잭션 1개로 저장
+        BatchResult result = new BatchResult();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Authors author : authorsRepository.findAllById(authors.stream().map(Authors::getId).toList())) {
+                Long id = author.getId();
+                String qid = qidByAuthor.get(id);
+
+                if (deferred.contains(id) || (qid != null && deferredQids.contains(qid))) {
+                    result.deferred++;
+                } else if (failed.contains(id) || (qid != null && failedQids.contains(qid))) {
+                    author.markEnrichment(AuthorEnrichmentStatus.FAILED);
+                    result.failed++;
+                } else if (qid == null) {
+                    author.markEnrichment(AuthorEnrichmentStatus.NOT_FOUND);
+                    result.notFound++;
+                } else {
+                    WikidataEntityFacts facts = factsByQid.get(qid);
+                    author.applyWikidataEnrichment(toEnrichment(facts, labels));
+                    replaceAwards(author, facts, labels);
+                    result.done++;
+                }
+            }
+        });
+
+        doneCounter.increment(result.done);
+        notFoundCounter.increment(result.notFound);
+        failedCounter.increment(result.failed);
+        deferredCounter.increment(result.deferred);
+        return result;
+    }
+
+    private Map<String, String> resolveLabels(Collection<WikidataEntityFacts> entities) {
+        Set<String> refs = new LinkedHashSet<>();
+        for (WikidataEntityFacts facts : entities) {
+            refs.addAll(facts.occupationQids());
+            refs.addAll(facts.citizenshipQids());
+            for (WikidataEntityFacts.AwardClaim award : facts.awards()) {
+                refs.add(award.awardQid());
+                if (award.workQid() != null) refs.add(award.workQid());
+            }
+        }
 
-        if (qidOpt.isEmpty()) return;
-        String qid = qidOpt.get(); // e.g. "Q12345"
+        Map<String, String> labels = new HashMap<>();
+        for (List<String> chunk : chunks(refs)) {
+            try {
+                Map<String, WikidataEntityFacts> res = wikidataClient.getLabels(chunk).block();
+                if (res == null) continue;
+                res.forEach((qid, facts) -> {
+                    if (facts.label() != null) labels.put(qid, facts.label());
+                });
+            } catch (Exception e) {
+                log.debug("위키데이터 라벨 조회 실패 - {}건, error: {}", chunk.size(), e.getMessage());
+            }
+        }
+        return labels;
+    }
 
-        // 2) Entity detail
-        Object entityRes = wikidataClient.getEntity(qid).block();
-        String rawJson = toJsonQuietly(entityRes);
+    private AuthorWikidataEnrichment toEnrichment(WikidataEntityFacts facts, Map<String, String> labels) {
+        String description = truncate(facts.description(), 500);
+        return new AuthorWikidataEnrichment(
+                commonsImageUrl(facts.imageFile()),
+                description,
+                facts.birthDate(),
+                truncate(joinLabels(facts.citizenshipQids(), labels), 100),
+                description,
+                null,
+                null,
+                facts.qid(),
+                truncate(facts.labelEn(), 100),
+                truncate(joinLabels(facts.occupationQids(), labels), 255),
+                wikipediaUrl(facts)
+        );
+    }
 
-        // 3) 최소 보강(처음엔 raw 저장 + summary만)
-        String summary = null; // TODO: wikipedia 요약 붙이기
+    /** 수상 이력은 위키데이터 기준으로 통째로 교체 */
+    private void replaceAwards(Authors author, WikidataEntityFacts facts, Map<String, String> labels) {
+        authorRewardRepository.deleteAllByAuthor_Id(author.getId());
 
-        AuthorWikidataEnrichment enrichment =
-                AuthorWikidataEnrichment.minimalWithBio(qid, rawJson, summary);
+        List<AuthorAwards> awards = new ArrayList<>();
+        for (WikidataEntityFacts.AwardClaim claim : facts.awards()) {
+            String awardName = labels.get(claim.awardQid());
+            if (awardName == null) continue;
+            awards.add(AuthorAwards.builder()
+                    .author(author)
+                    .year(claim.year())
+                    .awardName(truncate(awardName, 255))
+                    .workTitle(claim.workQid() == null ? null : truncate(labels.get(claim.workQid()), 255))
+                    .build());
+        }
+        authorRewardRepository.saveAll(awards);
+    }
 
-        author.applyWikidataEnrichment(enrichment);
+    private static String joinLabels(List<String> qids, Map<String, String> labels) {
+        String joined = qids.stream()
+                .map(labels::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.joining(", "));
+        return joined.isEmpty() ? null : joined;
+    }
 
-        authorsRepository.save(author);
+    private static String commonsImageUrl(String fileName) {
+        if (fileName == null || fileName.isBlank()) return null;
+        return "https://commons.wikimedia.org/wiki/Special:FilePath/"
+                + UriUtils.encodePathSegment(fileName.replace(' ', '_'), StandardCharsets.UTF_8);
+    }
+
+    private static String wikipediaUrl(WikidataEntityFacts facts) {
+        if (facts.kowikiTitle() != null) return wikiUrl("ko", facts.kowikiTitle());
+        if (facts.enwikiTitle() != null) return wikiUrl("en", facts.enwikiTitle());
+        return null;
+    }
+
+    private static String wikiUrl(String lang, String title) {
+        String url = "https://" + lang + ".wikipedia.org/wiki/"
+                + UriUtils.encodePathSegment(title.replace(' ', '_'), StandardCharsets.UTF_8);
+        return url.length() > 500 ? null : url;
+    }
+
+    private static String truncate(String value, int max) {
+        if (value == null) return null;
+        return value.length() > max ? value.substring(0, max) : value;
+    }
+
+    private static List<List<String>> chunks(Collection<String> values) {
+        List<String> list = new ArrayList<>(values);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += WikidataClient.MAX_IDS_PER_REQUEST) {
+            chunks.add(list.subList(from, Math.min(from + WikidataClient.MAX_IDS_PER_REQUEST, list.size())));
+        }
+        return chunks;
+    }
+
+    /** 쿼터 초과/서킷 오픈: 실패로 치지 않고 다음 주기로 미룸 */
+    private boolean isDeferrable(Throwable e) {
+        return e instanceof GeneralException ge
+                && (ge.getCode() == ErrorStatus.EXTERNAL_API_RATE_LIMITED
+                || ge.getCode() == ErrorStatus.EXTERNAL_API_UNAVAILABLE);
     }
 
     private Optional<String> pickBestQid(WikidataSearchResponse res) {
@@ -77,11 +437,20 @@ public class AuthorEnrichmentService {
         return s;
     }
 
-    private String toJsonQuietly(Object obj) {
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            return null;
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("author.enrichment.authors")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static class BatchResult {
+        int done;
+        int notFound;
+        int failed;
+        int deferred;
+
+        int deferred() {
+            return deferred;
         }
     }
 }
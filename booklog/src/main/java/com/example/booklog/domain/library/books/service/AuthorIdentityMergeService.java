@@ -0,0 +1,121 @@
+package com.example.booklog.domain.library.books.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 같은 이름 작가 병합 + uk_authors_name 생성 (기동 시 1회, 백그라운드)
+ *
+ * uk_authors_name은 ddl-auto가 만들려고 하지만 이름이 겹치는 행이 있으면 조용히 실패한다.
+ * 그래서 유니크 키가 없을 때만
+ * 1. 이름이 같은(collation 기준) 작가를 하나로 병합: 위키데이터 보강이 끝난 행 → id가 작은 행 순으로 대표 선택
+ *    book_authors/author_awards를 대표로 옮기고 나머지 행 삭제 (대표에 수상 이력이 있으면 중복 쪽 이력은 버림)
+ * 2. 유니크 키 생성 → 이후 INSERT IGNORE(AuthorResolver)가 이름당 한 행만 남김
+ *
+ * 이름마다 한 트랜잭션. 중간에 멈추거나 그 사이 중복이 또 생겨 키 생성이 실패하면 다음 기동 때 이어서 진행.
+ */
+@Slf4j
+@Service
+public class AuthorIdentityMergeService {
+
+    private static final String UNIQUE_KEY = "uk_authors_name";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final AuthorResolver authorResolver;
+    private final boolean enabled;
+
+    public AuthorIdentityMergeService(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      @Qualifier("ingestionExecutor") TaskExecutor executor,
+                                      AuthorResolver authorResolver,
+                                      @Value("${author-identity.merge.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.authorResolver = authorResolver;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void mergeOnStartup() {
+        if (!enabled || uniqueKeyExists()) return;
+        executor.execute(() -> {
+            try {
+                mergeAndAddUniqueKey();
+            } catch (Exception e) {
+                log.warn("작가 이름 병합/유니크 키 생성 실패 (다음 기동 시 이어서 진행): {}", e.getMessage());
+            }
+        });
+    }
+
+    private void mergeAndAddUniqueKey() {
+        List<String> duplicatedNames = jdbcTemplate.queryForList(
+                "SELECT MIN(name) FROM authors GROUP BY name HAVING COUNT(*) > 1", String.class);
+
+        int merged = 0;
+        for (String name : duplicatedNames) {
+            Integer count = transactionTemplate.execute(status -> mergeByName(name));
+            if (count != null) merged += count;
+        }
+        if (merged > 0) {
+            // 캐시에 삭제된 작가 id가 남아 있을 수 있음
+            authorResolver.clear();
+            log.info("👤 같은 이름 작가 병합 완료 - 이름 {}개, 삭제된 중복 작가 {}명", duplicatedNames.size(), merged);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE authors ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (name)");
+        log.info("👤 작가 이름 유니크 키 생성 완료: {}", UNIQUE_KEY);
+    }
+
+    /** @return 삭제된 중복 작가 수 */
+    private int mergeByName(String name) {
+        List<Long> ids = jdbcTemplate.queryForList("""
+                SELECT author_id FROM authors WHERE name = ?
+                ORDER BY (wikidata_status = 'DONE') DESC, author_id ASC
+                FOR UPDATE
+                """, Long.class, name);
+        if (ids.size() < 2) return 0;
+
+        Long survivor = ids.get(0);
+        for (Long loser : ids.subList(1, ids.size())) {
+            merge(loser, survivor);
+        }
+        return ids.size() - 1;
+    }
+
+    private void merge(Long loser, Long survivor) {
+        // 같은 책에 두 작가가 모두 매핑된 경우는 대표 쪽 매핑을 남김
+        jdbcTemplate.update("UPDATE IGNORE book_authors SET author_id = ? WHERE author_id = ?", survivor, loser);
+        jdbcTemplate.update("DELETE FROM book_authors WHERE author_id = ?", loser);
+
+        Integer survivorAwards = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM author_awards WHERE author_id = ?", Integer.class, survivor);
+        if (survivorAwards == null || survivorAwards == 0) {
+            jdbcTemplate.update("UPDATE author_awards SET author_id = ? WHERE author_id = ?", survivor, loser);
+        } else {
+            jdbcTemplate.update("DELETE FROM author_awards WHERE author_id = ?", loser);
+        }
+
+        jdbcTemplate.update("DELETE FROM authors WHERE author_id = ?", loser);
+        log.debug("중복 작가 병합 - {} → {}", loser, survivor);
+    }
+
+    private boolean uniqueKeyExists() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'authors' AND index_name = ?
+                """, Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+}
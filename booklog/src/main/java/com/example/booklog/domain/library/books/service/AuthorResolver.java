@@ -0,0 +1,193 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.repository.BookBulkJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 작가명 → author_id 해석기 (프로세스 전역 캐시)
+ *
+ * 임포트 중 가장 많이 나가던 쿼리가 작가별 findByName 이라서,
+ * 이름 → id를 LRU로 들고 있고 캐시에 없는 이름만 한 번에 조회/생성한다.
+ * - 조회: name IN (...) 1회
+ * - 생성: INSERT IGNORE 배치 → 다시 IN 조회 (uk_authors_name 덕분에 동시 생성돼도 한 행만 남음)
+ *
+ * 키는 trim + 소문자 (MySQL 기본 collation이 대소문자를 구분하지 않으므로 동일하게 맞춤)
+ *
+ * 트랜잭션 안에서 해석한 id는 커밋된 뒤에만 캐시에 올린다.
+ * (임포트 트랜잭션이 롤백되면 방금 만든 작가 행도 사라지므로, 먼저 올리면 없는 id가 캐시에 남음)
+ *
+ * 지표: author.resolver.requests{result=hit|miss}, author.resolver.size
+ */
+@Component
+public class AuthorResolver {
+
+    private final BookBulkJdbcRepository bookBulkJdbcRepository;
+    private final Map<String, Long> idByKey;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public AuthorResolver(BookBulkJdbcRepository bookBulkJdbcRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${author.resolver.max-size:50000}") int maxSize) {
+        this.bookBulkJdbcRepository = bookBulkJdbcRepository;
+        this.idByKey = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hitCounter = Counter.builder("author.resolver.requests")
+                .tag("result", "hit")
+                .description("작가명 → id 캐시 적중")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("author.resolver.requests")
+                .tag("result", "miss")
+                .description("작가명 → id 캐시 미적중")
+                .register(meterRegistry);
+        Gauge.builder("author.resolver.size", this, AuthorResolver::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작가명들을 id로 해석 (없으면 생성)
+     * 빈 이름은 결과에서 빠진다.
+     *
+     * @param names 작가명 (trim 전 이름 허용)
+     * @return 입력 이름(trim) → author_id, DB 호출 횟수
+     */
+    public Resolution resolveOrCreate(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        lookupCached(names, ids, missing);
+        if (missing.isEmpty()) return new Resolution(ids, 0);
+
+        int dbCalls = 1;
+        Map<String, Long> found = bookBulkJdbcRepository.findAuthorIdsByNames(missing);
+        collect(missing, found, ids);
+
+        Set<String> toCreate = new LinkedHashSet<>(missing);
+        toCreate.removeAll(ids.keySet());
+        if (!toCreate.isEmpty()) {
+            bookBulkJdbcRepository.insertAuthorNamesIgnoringDuplicates(toCreate);
+            collect(toCreate, bookBulkJdbcRepository.findAuthorIdsByNames(toCreate), ids);
+            dbCalls += 2;
+        }
+        return new Resolution(ids, dbCalls);
+    }
+
+    /**
+     * 작가명으로 id 조회 (생성하지 않음)
+     */
+    public Optional<Long> findId(String name) {
+        String trimmed = name == null ? "" : name.trim();
+        if (trimmed.isEmpty()) return Optional.empty();
+
+        Map<String, Long> ids = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        lookupCached(Set.of(trimmed), ids, missing);
+        if (!missing.isEmpty()) {
+            collect(missing, bookBulkJdbcRepository.findAuthorIdsByNames(missing), ids);
+        }
+        return Optional.ofNullable(ids.get(trimmed));
+    }
+
+    public int size() {
+        synchronized (idByKey) {
+            return idByKey.size();
+        }
+    }
+
+    private void lookupCached(Collection<String> names, Map<String, Long> ids, Set<String> missing) {
+        synchronized (idByKey) {
+            for (String name : names) {
+                String trimmed = name == null ? "" : name.trim();
+                if (trimmed.isEmpty() || ids.containsKey(trimmed)) continue;
+
+                Long id = idByKey.get(keyOf(trimmed));
+                if (id != null) {
+                    ids.put(trimmed, id);
+                    hitCounter.increment();
+                } else if (missing.add(trimmed)) {
+                    missCounter.increment();
+                }
+            }
+        }
+    }
+
+    /** 캐시 비우기 (작가 병합 등으로 id가 바뀐 경우) */
+    public void clear() {
+        synchronized (idByKey) {
+            idByKey.clear();
+        }
+    }
+
+    /** DB 결과(저장된 이름 기준)를 요청한 이름에 매핑하고 캐시에 적재 (트랜잭션 중이면 커밋 후) */
+    private void collect(Set<String> requested, Map<String, Long> found, Map<String, Long> ids) {
+        Map<String, Long> byKey = new HashMap<>();
+        found.forEach((name, id) -> byKey.putIfAbsent(keyOf(name), id));
+
+        Map<String, Long> resolved = new HashMap<>();
+        for (String name : requested) {
+            Long id = byKey.get(keyOf(name));
+            if (id == null) continue;
+            ids.put(name, id);
+            resolved.put(keyOf(name), id);
+        }
+        if (resolved.isEmpty()) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(resolved);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    publish(resolved);
+                } else {
+                    // 롤백: 그 사이 다른 경로로 같은 id가 올라갔더라도 제거
+                    invalidate(resolved);
+                }
+            }
+        });
+    }
+
+    private void publish(Map<String, Long> resolved) {
+        synchronized (idByKey) {
+            idByKey.putAll(resolved);
+        }
+    }
+
+    private void invalidate(Map<String, Long> resolved) {
+        synchronized (idByKey) {
+            resolved.forEach(idByKey::remove);
+        }
+    }
+
+    private static String keyOf(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param ids 입력 이름(trim) → author_id
+     * @param dbCalls 해석에 사용한 DB 호출 횟수 (전부 캐시 적중이면 0)
+     */
+    public record Resolution(Map<String, Long> ids, int dbCalls) {}
+}
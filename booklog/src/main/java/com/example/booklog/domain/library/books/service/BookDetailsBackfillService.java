@@ -0,0 +1,187 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.repository.BookBulkJdbcRepository;
+import com.example.booklog.global.common.GzipStringConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * books.contents / books.raw_json → book_details 이관 (기동 시 1회, 백그라운드)
+ *
+ * ddl-auto(update)는 기존 컬럼을 지우지 않으므로, 예전 행의 값을 gzip으로 옮긴 뒤 원래 컬럼은 NULL로 비운다.
+ * - book_id 순으로 batch-size개씩 (keyset), 배치마다 한 트랜잭션
+ * - 이미 book_details가 있는 도서는 최신 임포트 값이 우선 (INSERT IGNORE 의미로 건너뜀)
+ * - 원래 컬럼은 book_details를 다시 읽어 압축을 풀어 같은 값인지 확인된 도서만 비움
+ * - 예전 컬럼이 없으면(신규 DB) 아무것도 하지 않음
+ *
+ * 이관이 끝나기 전(또는 꺼둔 경우)에도 소개글이 사라져 보이지 않도록 legacyDescription으로 원래 컬럼을 읽을 수 있다.
+ */
+@Slf4j
+@Service
+public class BookDetailsBackfillService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookBulkJdbcRepository bookBulkJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final boolean enabled;
+    private final int batchSize;
+
+    // 원래 컬럼 존재 여부 (처음 조회 시 한 번만 확인)
+    private volatile Boolean legacyColumns;
+
+    public BookDetailsBackfillService(JdbcTemplate jdbcTemplate,
+                                      BookBulkJdbcRepository bookBulkJdbcRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      @Qualifier("ingestionExecutor") TaskExecutor executor,
+                                      @Value("${book-details.backfill.enabled:true}") boolean enabled,
+                                      @Value("${book-details.backfill.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookBulkJdbcRepository = bookBulkJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) return;
+        executor.execute(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                log.warn("book_details 이관 실패 (다음 기동 시 이어서 진행): {}", e.getMessage());
+            }
+        });
+    }
+
+    private void backfill() {
+        if (!legacyColumnsExist()) return;
+
+        long lastId = 0;
+        long moved = 0;
+        long skipped = 0;
+        while (true) {
+            List<LegacyRow> rows = jdbcTemplate.query("""
+                    SELECT book_id, contents, raw_json FROM books
+                    WHERE book_id > ? ORDER BY book_id LIMIT ?
+                    """,
+                    (rs, i) -> new LegacyRow(rs.getLong("book_id"), rs.getString("contents"), rs.getString("raw_json")),
+                    lastId, batchSize);
+            if (rows.isEmpty()) break;
+            lastId = rows.get(rows.size() - 1).bookId();
+
+            List<LegacyRow> targets = rows.stream()
+                    .filter(r -> r.contents() != null || r.rawJson() != null)
+                    .toList();
+            if (targets.isEmpty()) continue;
+
+            Integer cleared = transactionTemplate.execute(status -> moveBatch(targets));
+            int count = cleared == null ? 0 : cleared;
+            moved += count;
+            skipped += targets.size() - count;
+        }
+
+        if (moved > 0 || skipped > 0) {
+            log.info("📦 book_details 이관 완료 - {}권 (검증 실패로 원래 컬럼 유지 {}권)", moved, skipped);
+        }
+    }
+
+    /** @return 원래 컬럼을 비운 도서 수 */
+    private int moveBatch(List<LegacyRow> targets) {
+        List<Long> ids = targets.stream().map(LegacyRow::bookId).toList();
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+
+        List<Long> existing = jdbcTemplate.queryForList(
+                "SELECT book_id FROM book_details WHERE book_id IN (" + placeholders + ")", Long.class, ids.toArray());
+
+        List<BookBulkJdbcRepository.BookDetailsRow> rows = new ArrayList<>();
+        for (LegacyRow r : targets) {
+            if (existing.contains(r.bookId())) continue;
+            rows.add(new BookBulkJdbcRepository.BookDetailsRow(r.bookId(), r.contents(), r.rawJson()));
+        }
+        bookBulkJdbcRepository.upsertDetails(rows);
+
+        List<Long> verified = verifiedIds(targets, existing, placeholders, ids);
+        if (verified.isEmpty()) return 0;
+
+        String verifiedPlaceholders = String.join(",", Collections.nCopies(verified.size(), "?"));
+        jdbcTemplate.update(
+                "UPDATE books SET contents = NULL, raw_json = NULL WHERE book_id IN (" + verifiedPlaceholders + ")",
+                verified.toArray());
+        return verified.size();
+    }
+
+    /**
+     * 원래 컬럼을 비워도 되는 도서 id
+     * 이번에 옮긴 도서는 book_details 값을 풀어서 원본과 같을 때만, 이미 있던 도서는 행이 있으면 통과
+     */
+    private List<Long> verifiedIds(List<LegacyRow> targets, List<Long> existing, String placeholders, List<Long> ids) {
+        Map<Long, String[]> copied = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT book_id, contents_gz, raw_json_gz FROM book_details WHERE book_id IN (" + placeholders + ")",
+                rs -> {
+                    copied.put(rs.getLong("book_id"), new String[]{
+                            GzipStringConverter.decompress(rs.getBytes("contents_gz")),
+                            GzipStringConverter.decompress(rs.getBytes("raw_json_gz"))});
+                },
+                ids.toArray());
+
+        List<Long> verified = new ArrayList<>();
+        for (LegacyRow r : targets) {
+            String[] copy = copied.get(r.bookId());
+            if (copy == null) {
+                log.warn("book_details 이관 확인 실패 (행 없음) - bookId: {}", r.bookId());
+                continue;
+            }
+            boolean same = existing.contains(r.bookId())
+                    || (Objects.equals(copy[0], r.contents()) && Objects.equals(copy[1], r.rawJson()));
+            if (same) {
+                verified.add(r.bookId());
+            } else {
+                log.warn("book_details 이관 확인 실패 (값 불일치) - bookId: {}", r.bookId());
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * book_details가 없는 도서의 예전 소개글 (books.contents)
+     * 원래 컬럼이 없는 DB면 null
+     */
+    public String legacyDescription(Long bookId) {
+        if (!legacyColumnsExist()) return null;
+        List<String> contents = jdbcTemplate.queryForList(
+                "SELECT contents FROM books WHERE book_id = ?", String.class, bookId);
+        return contents.isEmpty() ? null : contents.get(0);
+    }
+
+    private boolean legacyColumnsExist() {
+        Boolean cached = legacyColumns;
+        if (cached != null) return cached;
+
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'books' AND COLUMN_NAME IN ('contents', 'raw_json')
+                """, Integer.class);
+        legacyColumns = count != null && count == 2;
+        return legacyColumns;
+    }
+
+    private record LegacyRow(Long bookId, String contents, String rawJson) {}
+}
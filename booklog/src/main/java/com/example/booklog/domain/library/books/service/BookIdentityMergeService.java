@@ -0,0 +1,167 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.entity.Books;
+import com.example.booklog.domain.library.books.event.BookCatalogChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * canonical_isbn 채우기 + 중복 도서 병합 (기동 시 1회, 백그라운드)
+ *
+ * canonical_isbn이 비어 있는 도서를 book_id 순으로 batch-size개씩 훑으면서
+ * - 같은 정규화 ISBN을 가진 도서(canonical_isbn 보유)가 아직 없으면 canonical_isbn만 채움 → 이 도서가 대표
+ * - 이미 있으면 그 도서로 병합: 참조(user_books, bookshelf_items, booklog_posts, book_tags, book_genres)를
+ *   대표 도서로 옮기고 중복 도서는 삭제
+ * 대표는 canonical_isbn을 먼저 가진 도서다. 이관 전 행끼리는 id가 작은 도서지만, 이관이 끝나기 전에
+ * 임포트가 같은 ISBN으로 새 도서(canonical_isbn이 채워진 채 insert)를 만들었다면 id가 더 큰 그 도서가 대표가 된다.
+ * 옮길 때 유니크 키가 겹치는 행(같은 사용자/서재/태그에 두 권 모두 있는 경우)은 대표 쪽을 남긴다.
+ *
+ * 배치마다 한 트랜잭션. 중간에 멈춰도 다음 기동 때 canonical_isbn이 빈 도서부터 이어서 진행.
+ * 지표: book.identity.merged
+ */
+@Slf4j
+@Service
+public class BookIdentityMergeService {
+
+    private static final String EVENT_SOURCE = "identity-merge";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Counter mergedCounter;
+
+    public BookIdentityMergeService(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    @Qualifier("ingestionExecutor") TaskExecutor executor,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${book-identity.merge.enabled:true}") boolean enabled,
+                                    @Value("${book-identity.merge.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.mergedCounter = Counter.builder("book.identity.merged")
+                .description("정규화 ISBN 기준으로 병합된 중복 도서 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void mergeOnStartup() {
+        if (!enabled) return;
+        executor.execute(() -> {
+            try {
+                backfillAndMerge();
+            } catch (Exception e) {
+                log.warn("도서 동일성 병합 실패 (다음 기동 시 이어서 진행): {}", e.getMessage());
+            }
+        });
+    }
+
+    private void backfillAndMerge() {
+        long lastId = 0;
+        long filled = 0;
+        List<Long> survivors = new ArrayList<>();
+
+        while (true) {
+            List<IsbnRow> rows = jdbcTemplate.query("""
+                    SELECT book_id, isbn_raw, isbn10, isbn13 FROM books
+                    WHERE book_id > ? AND canonical_isbn IS NULL
+                    ORDER BY book_id LIMIT ?
+                    """,
+                    (rs, i) -> new IsbnRow(rs.getLong("book_id"),
+                            Books.canonicalIsbnOf(rs.getString("isbn_raw"), rs.getString("isbn10"), rs.getString("isbn13"))),
+                    lastId, batchSize);
+            if (rows.isEmpty()) break;
+            lastId = rows.get(rows.size() - 1).bookId();
+
+            List<IsbnRow> targets = rows.stream().filter(r -> r.canonicalIsbn() != null).toList();
+            if (targets.isEmpty()) continue;
+
+            List<Long> merged = transactionTemplate.execute(status -> processBatch(targets));
+            if (merged != null) survivors.addAll(merged);
+            filled += targets.size();
+        }
+
+        if (!survivors.isEmpty()) {
+            eventPublisher.publishEvent(new BookCatalogChangedEvent(EVENT_SOURCE, List.copyOf(survivors)));
+        }
+        if (filled > 0) {
+            log.info("📚 도서 동일성 정리 완료 - ISBN 정규화 {}권, 중복 병합 {}권", filled, survivors.size());
+        }
+    }
+
+    /** @return 병합이 일어난 대표 도서 id */
+    private List<Long> processBatch(List<IsbnRow> rows) {
+        List<Long> survivors = new ArrayList<>();
+        for (IsbnRow row : rows) {
+            List<Long> existing = jdbcTemplate.queryForList(
+                    "SELECT book_id FROM books WHERE canonical_isbn = ?", Long.class, row.canonicalIsbn());
+
+            if (existing.isEmpty()) {
+                jdbcTemplate.update("UPDATE books SET canonical_isbn = ? WHERE book_id = ?",
+                        row.canonicalIsbn(), row.bookId());
+                continue;
+            }
+
+            Long survivor = existing.get(0);
+            if (!survivor.equals(row.bookId())) {
+                merge(row.bookId(), survivor);
+                survivors.add(survivor);
+                mergedCounter.increment();
+            }
+        }
+        return survivors;
+    }
+
+    /** 중복 도서(loser)의 참조를 대표 도서(survivor)로 옮기고 삭제 */
+    private void merge(Long loser, Long survivor) {
+        // 같은 사용자가 두 권 모두 담은 경우: 독서 기록/AI 인사이트를 대표 쪽 user_book으로 옮긴 뒤 중복 행 삭제
+        for (String table : List.of("reading_logs", "ai_book_insights")) {
+            jdbcTemplate.update("""
+                    UPDATE %s t
+                    JOIN user_books l ON l.user_book_id = t.user_book_id AND l.book_id = ?
+                    JOIN user_books s ON s.user_id = l.user_id AND s.book_id = ?
+                    SET t.user_book_id = s.user_book_id
+                    """.formatted(table), loser, survivor);
+        }
+        moveIgnoringDuplicates("user_books", loser, survivor);
+        moveIgnoringDuplicates("bookshelf_items", loser, survivor);
+        moveIgnoringDuplicates("book_tags", loser, survivor);
+        moveIgnoringDuplicates("book_genres", loser, survivor);
+        jdbcTemplate.update("UPDATE booklog_posts SET book_id = ? WHERE book_id = ?", survivor, loser);
+
+        // 도서 자체 정보(작가 매핑/상세)는 대표 도서 것을 사용
+        jdbcTemplate.update("DELETE FROM book_authors WHERE book_id = ?", loser);
+        jdbcTemplate.update("DELETE FROM book_details WHERE book_id = ?", loser);
+        jdbcTemplate.update("DELETE FROM books WHERE book_id = ?", loser);
+
+        log.debug("중복 도서 병합 - {} → {}", loser, survivor);
+    }
+
+    private void moveIgnoringDuplicates(String table, Long loser, Long survivor) {
+        jdbcTemplate.update("UPDATE IGNORE " + table + " SET book_id = ? WHERE book_id = ?", survivor, loser);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE book_id = ?", loser);
+    }
+
+    private record IsbnRow(Long bookId, String canonicalIsbn) {}
+}
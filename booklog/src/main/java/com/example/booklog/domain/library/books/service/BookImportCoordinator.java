@@ -0,0 +1,247 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.dto.BookSearchResponse;
+import com.example.booklog.domain.library.books.dto.ImportStatusResponse;
+import com.example.booklog.domain.library.books.service.client.KakaoNegativeCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 임포트 single-flight
+ *
+ * 같은 검색어로 동시에 들어온 임포트 요청을 하나로 합친다.
+ * - 인스턴스 내: 정규화된 검색어 기준으로 진행 중인 임포트를 공유 (먼저 온 요청만 실제 실행)
+ * - 인스턴스 간(선택): Redis SET NX 락. 다른 인스턴스가 임포트 중이면 끝날 때까지 기다린 뒤 DB 재조회에 맡긴다.
+ *
+ * 동일 도서/작가를 동시에 findOrCreate 하면서 생기는 중복 행, unique 충돌을 막기 위함.
+ *
+ * [비동기 모드] import.async.enabled=true
+ * - 검색은 DB 결과를 바로 반환하고(enriching=true), 임포트는 importExecutor에서 진행
+ * - 클라이언트는 /api/v1/search/import-status 로 완료를 확인한 뒤 재검색
+ */
+@Slf4j
+@Service
+public class BookImportCoordinator {
+
+    private static final String LOCK_PREFIX = "import:lock:";
+    private static final long LOCK_POLL_MILLIS = 100;
+    private static final int ASYNC_PAGE = 1;
+    private static final int ASYNC_SIZE = 10; // 카카오 API는 최대 10개만 가져옴
+    private static final int MAX_TRACKED_STATUSES = 1000;
+
+    // 내가 잡은 락일 때만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final BookImportService bookImportService;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisLockEnabled;
+    private final long waitTimeoutMillis;
+    private final Duration lockTtl;
+    private final KakaoNegativeCache kakaoNegativeCache;
+    private final TaskExecutor importExecutor;
+    private final boolean asyncEnabled;
+    private final Duration statusRetention;
+
+    private final Map<String, CompletableFuture<BookSearchResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, ImportStatusResponse> statuses = new ConcurrentHashMap<>();
+
+    public BookImportCoordinator(BookImportService bookImportService,
+                                 StringRedisTemplate redisTemplate,
+                                 KakaoNegativeCache kakaoNegativeCache,
+                                 @Qualifier("importExecutor") TaskExecutor importExecutor,
+                                 @Value("${import.async.enabled:false}") boolean asyncEnabled,
+                                 @Value("${import.async.status-retention-minutes:10}") long statusRetentionMinutes,
+                                 @Value("${import.single-flight.redis-lock.enabled:false}") boolean redisLockEnabled,
+                                 @Value("${import.single-flight.wait-timeout-millis:5000}") long waitTimeoutMillis,
+                                 @Value("${import.single-flight.redis-lock.ttl-millis:15000}") long lockTtlMillis) {
+        this.bookImportService = bookImportService;
+        this.redisTemplate = redisTemplate;
+        this.redisLockEnabled = redisLockEnabled;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+        this.kakaoNegativeCache = kakaoNegativeCache;
+        this.importExecutor = importExecutor;
+        this.asyncEnabled = asyncEnabled;
+        this.statusRetention = Duration.ofMinutes(statusRetentionMinutes);
+    }
+
+    public boolean asyncEnabled() {
+        return asyncEnabled;
+    }
+
+    /**
+     * 백그라운드 임포트 요청 (비동기 모드)
+     *
+     * @return 임포트가 진행 중/대기 중이면 true (검색 응답의 enriching 값)
+     *         최근 결과 없음이 확인된 검색어이거나 대기열이 가득 차면 false
+     */
+    public boolean submitAsync(String query) {
+        String key = KakaoNegativeCache.normalizeKey(query);
+        if (key.isEmpty() || kakaoNegativeCache.isKnownEmpty(query)) {
+            return false;
+        }
+
+        ImportStatusResponse before = statuses.get(key);
+        ImportStatusResponse pending = status(query, ImportStatusResponse.Status.PENDING, 0);
+        ImportStatusResponse current = statuses.compute(key,
+                (k, existing) -> (existing != null && existing.inProgress()) ? existing : pending);
+        if (current != pending) {
+            return true; // 이미 대기/진행 중
+        }
+
+        evictExpiredStatuses();
+        try {
+            importExecutor.execute(() -> {
+                statuses.put(key, status(query, ImportStatusResponse.Status.RUNNING, 0));
+                try {
+                    BookSearchResponse result = searchAndUpsert(query, ASYNC_PAGE, ASYNC_SIZE);
+                    statuses.put(key, status(query, ImportStatusResponse.Status.DONE, result.items().size()));
+                } catch (Exception e) {
+                    log.warn("백그라운드 임포트 실패 - query: {}, error: {}", query, e.getMessage());
+                    statuses.put(key, status(query, ImportStatusResponse.Status.FAILED, 0));
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("백그라운드 임포트 대기열 포화 - query: {}, error: {}", query, e.getMessage());
+            if (before == null) statuses.remove(key, pending);
+            else statuses.replace(key, pending, before);
+            return false;
+        }
+    }
+
+    /**
+     * 백그라운드 임포트 상태 조회
+     */
+    public ImportStatusResponse getStatus(String query) {
+        ImportStatusResponse status = statuses.get(KakaoNegativeCache.normalizeKey(query));
+        if (status == null || isExpired(status)) {
+            return new ImportStatusResponse(query, ImportStatusResponse.Status.NONE, 0, null);
+        }
+        return status;
+    }
+
+    private ImportStatusResponse status(String query, ImportStatusResponse.Status status, int importedCount) {
+        return new ImportStatusResponse(query, status, importedCount, LocalDateTime.now());
+    }
+
+    private boolean isExpired(ImportStatusResponse status) {
+        return !status.inProgress()
+                && status.updatedAt().isBefore(LocalDateTime.now().minus(statusRetention));
+    }
+
+    private void evictExpiredStatuses() {
+        statuses.values().removeIf(this::isExpired);
+        if (statuses.size() > MAX_TRACKED_STATUSES) {
+            statuses.values().removeIf(s -> !s.inProgress());
+        }
+    }
+
+    /**
+     * 카카오 검색 → DB 업서트 (동일 검색어 동시 요청은 한 번만 실행)
+     *
+     * 다른 요청/인스턴스의 임포트를 기다린 경우, 기다리다 시간이 초과된 경우에는
+     * 빈 응답을 반환할 수 있다. 호출 측은 반환값 대신 DB 재조회로 결과를 확인한다.
+     */
+    public BookSearchResponse searchAndUpsert(String query, int page, int size) {
+        String key = KakaoNegativeCache.normalizeKey(query) + "|" + page + "|" + size;
+
+        CompletableFuture<BookSearchResponse> mine = new CompletableFuture<>();
+        CompletableFuture<BookSearchResponse> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            log.info("진행 중인 임포트 합류 - query: {}", query);
+            return await(existing, page, size);
+        }
+
+        try {
+            BookSearchResponse result = importWithClusterLock(key, query, page, size);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private BookSearchResponse importWithClusterLock(String key, String query, int page, int size) {
+        if (!redisLockEnabled) {
+            return bookImportService.searchAndUpsert(query, page, size);
+        }
+
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        } catch (Exception e) {
+            log.warn("임포트 락 획득 실패 (락 없이 진행): {}", e.getMessage());
+            return bookImportService.searchAndUpsert(query, page, size);
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("다른 인스턴스에서 임포트 진행 중 - 완료 대기: query={}", query);
+            waitForRelease(lockKey);
+            return emptyResponse(page, size);
+        }
+
+        try {
+            return bookImportService.searchAndUpsert(query, page, size);
+        } finally {
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            } catch (Exception e) {
+                log.warn("임포트 락 해제 실패 (TTL 만료로 해제됨): {}", e.getMessage());
+            }
+        }
+    }
+
+    private void waitForRelease(String lockKey) {
+        long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+        try {
+            while (System.currentTimeMillis() < deadline && Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("임포트 락 대기 실패: {}", e.getMessage());
+        }
+    }
+
+    private BookSearchResponse await(CompletableFuture<BookSearchResponse> future, int page, int size) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("진행 중인 임포트 대기 실패: {}", e.getMessage());
+        }
+        return emptyResponse(page, size);
+    }
+
+    private BookSearchResponse emptyResponse(int page, int size) {
+        return new BookSearchResponse(page, size, true, 0, List.of());
+    }
+}
@@ -1,35 +1,76 @@
 package com.example.booklog.domain.library.books.service;
 
 import com.example.booklog.domain.library.books.converter.BookSearchConverter;
+import com.example.booklog.domain.library.books.converter.IsbnNormalizer;
 import com.example.booklog.domain.library.books.dto.BookSearchItemResponse;
 import com.example.booklog.domain.library.books.dto.BookSearchResponse;
 import com.example.booklog.domain.library.books.dto.KakaoBookSearchResponse;
 import com.example.booklog.domain.library.books.entity.*;
-import com.example.booklog.domain.library.books.repository.AuthorsRepository;
+import com.example.booklog.domain.library.books.event.BookCatalogChangedEvent;
+import com.example.booklog.domain.library.books.repository.BookBulkJdbcRepository;
 import com.example.booklog.domain.library.books.repository.BooksRepository;
 import com.example.booklog.domain.library.books.service.client.KakaoBookClient;
+import com.example.booklog.domain.library.books.service.client.KakaoNegativeCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class BookImportService {
 
     private final KakaoBookClient kakaoBookClient;
+    private final KakaoNegativeCache kakaoNegativeCache;
     private final BooksRepository booksRepository;
-    private final AuthorsRepository authorsRepository;
+    private final AuthorResolver authorResolver;
     private final BookSearchConverter bookSearchConverter;
     private final ObjectMapper objectMapper;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookBulkJdbcRepository bookBulkJdbcRepository;
+    private final DistributionSummary roundTripSummary;
+
+    public BookImportService(KakaoBookClient kakaoBookClient,
+                             KakaoNegativeCache kakaoNegativeCache,
+                             BooksRepository booksRepository,
+                             AuthorResolver authorResolver,
+                             BookSearchConverter bookSearchConverter,
+                             ObjectMapper objectMapper,
+                             EntityManager entityManager,
+                             ApplicationEventPublisher eventPublisher,
+                             BookBulkJdbcRepository bookBulkJdbcRepository,
+                             MeterRegistry meterRegistry) {
+        this.kakaoBookClient = kakaoBookClient;
+        this.kakaoNegativeCache = kakaoNegativeCache;
+        this.booksRepository = booksRepository;
+        this.authorResolver = authorResolver;
+        this.bookSearchConverter = bookSearchConverter;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.bookBulkJdbcRepository = bookBulkJdbcRepository;
+        this.roundTripSummary = DistributionSummary.builder("book.import.round-trips")
+                .description("카카오 임포트 페이지당 DB 왕복 횟수")
+                .register(meterRegistry);
+    }
 
     /**
      * 카카오 도서 검색 -> books/authors/book_authors 업서트 -> 검색 응답 반환
@@ -44,125 +85,220 @@ public class BookImportService {
         int safePage = clamp(page, 1, 50);
         int safeSize = clamp(size, 1, 50);
 
+        // 최근 카카오에서 결과가 0건이었던 검색어는 호출하지 않음
+        if (kakaoNegativeCache.isKnownEmpty(q)) {
+            return new BookSearchResponse(safePage, safeSize, true, 0, List.of());
+        }
+
         KakaoBookSearchResponse res = kakaoBookClient.search(q, safePage, safeSize).block();
         if (res == null || res.getDocuments() == null) {
             return new BookSearchResponse(safePage, safeSize, true, 0, List.of());
         }
 
-        List<BookSearchItemResponse> items = new ArrayList<>();
+        // 검색어 자체의 결과가 0건일 때만 기록 (뒤 페이지가 비는 경우는 제외)
+        if (res.getDocuments().isEmpty() && res.getMeta() != null && res.getMeta().getTotalCount() == 0) {
+            kakaoNegativeCache.recordEmpty(q);
+        }
 
-        for (KakaoBookSearchResponse.Document doc : res.getDocuments()) {
-            if (doc == null) continue;
+        List<BookSearchItemResponse> items = upsertAll(res.getDocuments());
 
-            String rawJson = toJsonQuietly(doc);
+        publishCatalogChanged("search-import", items);
 
-            IsbnParts isbnParts = IsbnParts.from(doc.getIsbn());
-            LocalDate publishedAt = bookSearchConverter.parseDate(doc.getDatetime());
-
-            // 1) Upsert 기준으로 book 찾기/생성
-            Books book = findOrCreateBook(isbnParts.isbn13, doc.getUrl());
-
-            // 2) book 정보 갱신
-            book.updateBasicInfo(
-                    safe(doc.getTitle()),
-                    doc.getContents(),
-                    doc.getThumbnail(),
-                    doc.getUrl(),
-                    doc.getPublisher(),
-                    publishedAt,
-                    doc.getIsbn(),
-                    isbnParts.isbn10,
-                    isbnParts.isbn13,
-                    rawJson
-            );
-
-            // ✅ 3) 새 책이면 먼저 저장해서 book_id 확보 (가장 중요)
-            if (book.getId() == null) {
-                book = booksRepository.save(book);
-                // flush는 필수는 아니지만, 이후 관계 insert 안정성을 높여줌
-                entityManager.flush();
-            }
+        int totalCount = (res.getMeta() == null) ? items.size() : res.getMeta().getTotalCount();
+        boolean isEnd = (res.getMeta() != null) && res.getMeta().isEnd();
 
-            // ✅ 4) 기존 매핑 제거 (orphanRemoval=true면 delete 나감)
-            // 기존 코드의 if(book.getId()!=null) 분기 필요 없음 (이미 id 있음)
-            book.getBookAuthors().clear();
-            entityManager.flush(); // 기존 row 삭제를 즉시 반영하고 싶으면
-
-            // ✅ 5) 새로운 매핑 생성 (book은 반드시 id가 있음)
-            List<BookAuthors> mappings = new ArrayList<>();
-
-            // authors
-            List<String> authorNames = doc.getAuthors() == null ? List.of() : doc.getAuthors();
-            int order = 1;
-            for (String name : authorNames) {
-                Authors author = findOrCreateAuthorOrNull(name);
-                if (author == null) continue;
-
-                mappings.add(BookAuthors.builder()
-                        .book(book)
-                        .author(author)
-                        .role(AuthorRole.AUTHOR)
-                        .displayOrder(order++)
-                        .build());
-            }
+        return new BookSearchResponse(safePage, safeSize, isEnd, totalCount, items);
+    }
 
-            // translators
-            List<String> translators = doc.getTranslators() == null ? List.of() : doc.getTranslators();
-            int tOrder = 1;
-            for (String name : translators) {
-                Authors author = findOrCreateAuthorOrNull(name);
-                if (author == null) continue;
-
-                mappings.add(BookAuthors.builder()
-                        .book(book)
-                        .author(author)
-                        .role(AuthorRole.TRANSLATOR)
-                        .displayOrder(tOrder++)
-                        .build());
-            }
+    /**
+     * 이미 받아온 카카오 문서 묶음 upsert (대량 수집 작업용)
+     *
+     * @param source 카탈로그 변경 이벤트에 실을 작업 이름
+     * @return upsert된 도서 응답 (문서 순서, 같은 도서가 중복될 수 있음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<BookSearchItemResponse> upsertDocuments(List<KakaoBookSearchResponse.Document> documents, String source) {
+        List<BookSearchItemResponse> items = upsertAll(documents);
+        publishCatalogChanged(source, items);
+        return items;
+    }
 
-            // ✅ 6) 교체 + 저장
-            book.replaceBookAuthors(mappings);
+    private void publishCatalogChanged(String source, List<BookSearchItemResponse> items) {
+        if (items.isEmpty()) return;
 
-            Books saved = booksRepository.save(book);
+        // 커밋 후 홈 스냅샷 등 카탈로그 의존 데이터 갱신 트리거
+        eventPublisher.publishEvent(new BookCatalogChangedEvent(
+                source,
+                items.stream().map(BookSearchItemResponse::bookId).distinct().toList()
+        ));
+    }
 
-            // 응답 구성
-            items.add(bookSearchConverter.toResponse(saved, doc));
+    /**
+     * 문서 목록 일괄 upsert (건별 조회/저장/flush 대신 집합 단위로 처리)
+     *
+     * 1. 기존 도서: canonical_isbn/kakao_url IN 조회 1회
+     * 2. 작가: AuthorResolver 캐시 → 미적중 이름만 IN 조회 1회 (없으면 INSERT IGNORE → 재조회)
+     * 3. 신규 도서: 배치 insert → 재조회로 id 확보
+     * 4. 기존 도서 변경분: flush 1회 (hibernate batch update)
+     * 5. book_authors: 기존 매핑과 비교해서 바뀐 행만 insert/update/delete
+     *    book_details: 소개글/원본 JSON 일괄 upsert
+     *
+     * 카카오 응답 해시(payload_hash)가 같은 도서는 3, 5단계를 건너뛴다.
+     *
+     * DB 왕복 횟수는 book.import.round-trips 로 기록
+     * - 페이지당 최대 12회 (ISBN/url이 모두 없는 문서는 건별 저장이라 1회씩 추가)
+     * - 신규 50건 페이지는 10회, 변경 없는 재임포트는 2회 (BookImportRoundTripTest)
+     * - 기존 문서별 방식은 문서당 4회 + 작가당 1~2회 (같은 50건 페이지 270회)
+     */
+    private List<BookSearchItemResponse> upsertAll(List<KakaoBookSearchResponse.Document> documents) {
+        List<KakaoBookSearchResponse.Document> docs = documents.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (docs.isEmpty()) return List.of();
+
+        int roundTrips = 0;
+
+        // 1) 기존 도서 일괄 조회
+        Set<String> isbns = new HashSet<>();
+        Set<String> urls = new HashSet<>();
+        for (KakaoBookSearchResponse.Document doc : docs) {
+            String isbn = IsbnNormalizer.canonical(doc.getIsbn());
+            String url = normalize(doc.getUrl());
+            if (isbn != null) isbns.add(isbn);
+            else if (!url.isBlank()) urls.add(url);
+        }
+        BookIndex index = new BookIndex();
+        if (!isbns.isEmpty() || !urls.isEmpty()) {
+            index.addAll(booksRepository.findAllByCanonicalIsbnInOrDetailUrlIn(isbns, urls));
+            roundTrips++;
         }
 
-        int totalCount = (res.getMeta() == null) ? items.size() : res.getMeta().getTotalCount();
-        boolean isEnd = (res.getMeta() != null) && res.getMeta().isEnd();
+        // 2) 작가 id 해석 (캐시 미적중 이름만 일괄 조회/생성)
+        Set<String> names = new LinkedHashSet<>();
+        for (KakaoBookSearchResponse.Document doc : docs) {
+            names.addAll(authorNames(doc.getAuthors()));
+            names.addAll(authorNames(doc.getTranslators()));
+        }
+        AuthorResolver.Resolution authors = authorResolver.resolveOrCreate(names);
+        Map<String, Long> authorIds = authors.ids();
+        roundTrips += authors.dbCalls();
+
+        // 3) 기존 도서는 갱신, 신규 도서는 모아서 배치 insert (같은 페이지 내 중복 문서는 한 번만)
+        Map<String, Books> newBooks = new LinkedHashMap<>();
+        List<Books> keylessBooks = new ArrayList<>();
+        //    카카오 응답(raw_json)이 저장된 것과 같으면 도서/매핑 갱신 모두 생략
+        Set<Long> unchangedBookIds = new HashSet<>();
+        Map<KakaoBookSearchResponse.Document, String> rawJsonByDoc = new IdentityHashMap<>();
+        for (KakaoBookSearchResponse.Document doc : docs) {
+            String rawJson = toJsonQuietly(doc);
+            rawJsonByDoc.put(doc, rawJson);
+            Books existing = index.find(doc);
+            if (existing != null) {
+                if (existing.hasSamePayload(rawJson)) unchangedBookIds.add(existing.getId());
+                else applyDocument(existing, doc, rawJson);
+                continue;
+            }
 
-        return new BookSearchResponse(safePage, safeSize, isEnd, totalCount, items);
-    }
+            Books created = Books.builder().source(BookSource.KAKAO).build();
+            applyDocument(created, doc, rawJson);
+            String key = BookIndex.keyOf(created.getCanonicalIsbn(), created.getDetailUrl());
+            if (key == null) keylessBooks.add(created); // ISBN/url 둘 다 없으면 재조회 불가 → 건별 저장
+            else newBooks.putIfAbsent(key, created);
+        }
+
+        if (!newBooks.isEmpty()) {
+            bookBulkJdbcRepository.insertBooks(List.copyOf(newBooks.values()));
+            Set<String> newIsbns = new HashSet<>();
+            Set<String> newUrls = new HashSet<>();
+            for (Books b : newBooks.values()) {
+                if (b.getCanonicalIsbn() != null) newIsbns.add(b.getCanonicalIsbn());
+                else newUrls.add(b.getDetailUrl());
+            }
+            index.addAll(booksRepository.findAllByCanonicalIsbnInOrDetailUrlIn(newIsbns, newUrls));
+            roundTrips += 2;
+        }
+        for (Books b : keylessBooks) {
+            booksRepository.save(b);
+            roundTrips++;
+        }
 
-    private Books findOrCreateBook(String isbn13, String kakaoUrl) {
-        String i13 = normalize(isbn13);
-        if (!i13.isBlank()) {
-            return booksRepository.findByIsbn13(i13)
-                    .orElseGet(() -> Books.builder().source(BookSource.KAKAO).build());
+        // 4) 기존 도서 변경분 반영 (flush 1회)
+        entityManager.flush();
+        roundTrips++;
+
+        // 5) 매핑 조정 + 상세(소개글/원본) 저장
+        List<BookSearchItemResponse> items = new ArrayList<>();
+        Map<Long, List<BookBulkJdbcRepository.BookAuthorRow>> rowsByBook = new LinkedHashMap<>();
+        Map<Long, BookBulkJdbcRepository.BookDetailsRow> detailsByBook = new LinkedHashMap<>();
+        int keylessIdx = 0;
+        for (KakaoBookSearchResponse.Document doc : docs) {
+            boolean keyless = BookIndex.keyOf(IsbnNormalizer.canonical(doc.getIsbn()), doc.getUrl()) == null;
+            Books book = keyless ? keylessBooks.get(keylessIdx++) : index.find(doc);
+            if (book == null || book.getId() == null) continue;
+
+            items.add(bookSearchConverter.toResponse(book, doc));
+            if (unchangedBookIds.contains(book.getId())) continue;
+
+            List<BookBulkJdbcRepository.BookAuthorRow> rows = new ArrayList<>();
+            addRows(rows, book.getId(), doc.getAuthors(), AuthorRole.AUTHOR, authorIds);
+            addRows(rows, book.getId(), doc.getTranslators(), AuthorRole.TRANSLATOR, authorIds);
+            rowsByBook.put(book.getId(), rows); // 같은 도서가 중복되면 마지막 문서 기준
+            detailsByBook.put(book.getId(), new BookBulkJdbcRepository.BookDetailsRow(
+                    book.getId(), doc.getContents(), rawJsonByDoc.get(doc)));
         }
 
-        String url = normalize(kakaoUrl);
-        if (!url.isBlank()) {
-            return booksRepository.findByDetailUrl(url)
-                    .orElseGet(() -> Books.builder().source(BookSource.KAKAO).build());
+        BookBulkJdbcRepository.BookAuthorsChanges changes = bookBulkJdbcRepository.reconcileBookAuthors(rowsByBook);
+        if (!rowsByBook.isEmpty()) {
+            roundTrips += 1 + changes.statements();
+        }
+        if (!detailsByBook.isEmpty()) {
+            bookBulkJdbcRepository.upsertDetails(List.copyOf(detailsByBook.values()));
+            roundTrips++;
         }
 
-        return Books.builder().source(BookSource.KAKAO).build();
+        roundTripSummary.record(roundTrips);
+        log.debug("카카오 임포트 upsert - 문서 {}건(변경 없음 {}건), 매핑 +{} ~{} -{}, DB 왕복 {}회",
+                docs.size(), unchangedBookIds.size(),
+                changes.inserted(), changes.updated(), changes.deleted(), roundTrips);
+        return items;
+    }
+
+    private void applyDocument(Books book, KakaoBookSearchResponse.Document doc, String rawJson) {
+        IsbnParts isbnParts = IsbnParts.from(doc.getIsbn());
+        book.updateBasicInfo(
+                safe(doc.getTitle()),
+                doc.getThumbnail(),
+                normalize(doc.getUrl()),
+                doc.getPublisher(),
+                bookSearchConverter.parseDate(doc.getDatetime()),
+                doc.getIsbn(),
+                isbnParts.isbn10,
+                isbnParts.isbn13,
+                Books.hashOf(rawJson)
+        );
     }
 
     /**
      * 빈 author가 들어오면 전체 import가 터지는 걸 막기 위해 "스킵"
+     * 같은 도서 내 동일 작가/역할 중복도 제거 (복합 PK 충돌 방지)
      */
-    private Authors findOrCreateAuthorOrNull(String name) {
-        String normalized = normalize(name);
-        if (normalized.isBlank()) return null;
-
-        return authorsRepository.findByName(normalized)
-                .orElseGet(() -> authorsRepository.save(
-                        Authors.builder().name(normalized).build()
-                ));
+    private void addRows(List<BookBulkJdbcRepository.BookAuthorRow> rows, Long bookId, List<String> names,
+                         AuthorRole role, Map<String, Long> authorIds) {
+        Set<Long> seen = new HashSet<>();
+        int order = 1;
+        for (String name : authorNames(names)) {
+            Long authorId = authorIds.get(name);
+            if (authorId == null || !seen.add(authorId)) continue;
+            rows.add(new BookBulkJdbcRepository.BookAuthorRow(bookId, authorId, role, order++));
+        }
+    }
+
+    private List<String> authorNames(List<String> names) {
+        if (names == null) return List.of();
+        return names.stream()
+                .map(this::normalize)
+                .filter(n -> !n.isBlank())
+                .toList();
     }
 
     private String safe(String s) {
@@ -187,6 +323,31 @@ public class BookImportService {
         return Math.min(v, max);
     }
 
+    /**
+     * upsert 기준 키(정규화 ISBN 우선, 없으면 kakao_url)로 도서 찾기
+     */
+    private static class BookIndex {
+        private final Map<String, Books> byKey = new HashMap<>();
+
+        void addAll(List<Books> books) {
+            for (Books b : books) {
+                if (b.getCanonicalIsbn() != null) byKey.putIfAbsent("isbn:" + b.getCanonicalIsbn(), b);
+                if (b.getDetailUrl() != null && !b.getDetailUrl().isBlank()) byKey.putIfAbsent("url:" + b.getDetailUrl(), b);
+            }
+        }
+
+        Books find(KakaoBookSearchResponse.Document doc) {
+            String key = keyOf(IsbnNormalizer.canonical(doc.getIsbn()), doc.getUrl());
+            return key == null ? null : byKey.get(key);
+        }
+
+        static String keyOf(String canonicalIsbn, String url) {
+            if (canonicalIsbn != null && !canonicalIsbn.isBlank()) return "isbn:" + canonicalIsbn;
+            if (url != null && !url.isBlank()) return "url:" + url.trim();
+            return null;
+        }
+    }
+
     private static class IsbnParts {
         final String isbn10;
         final String isbn13;
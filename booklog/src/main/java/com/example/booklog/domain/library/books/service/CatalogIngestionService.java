@@ -0,0 +1,361 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.converter.IsbnNormalizer;
+import com.example.booklog.domain.library.books.dto.BookSearchItemResponse;
+import com.example.booklog.domain.library.books.dto.IngestionJobResponse;
+import com.example.booklog.domain.library.books.dto.KakaoBookSearchResponse;
+import com.example.booklog.domain.library.books.entity.CatalogIngestionJob;
+import com.example.booklog.domain.library.books.entity.IngestionJobStatus;
+import com.example.booklog.domain.library.books.repository.CatalogIngestionJobRepository;
+import com.example.booklog.domain.library.books.service.client.KakaoBookClient;
+import com.example.booklog.domain.library.books.service.client.RateBudget;
+import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
+import com.example.booklog.global.common.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 대량 수집 (오프라인 ingestion)
+ *
+ * seed 파일(한 줄에 ISBN 또는 검색어 하나)을 읽어 카카오에서 가져온 뒤
+ * BookImportService의 일괄 upsert 로직으로 저장한다.
+ *
+ * [흐름]
+ * 1. 체크포인트 다음 줄부터 batch-size 줄씩 읽기 (배치 처리 후에 다음 배치를 읽음 → 자연스러운 backpressure)
+ * 2. 배치 안에서는 concurrency 개까지 동시에 카카오 호출 (호출 한도 초과 시 백오프 후 재시도)
+ *    호출은 ingestion.rate-limit 예산(카카오 쿼터의 일부)으로 먼저 늦춰서 실시간 검색 몫을 남김
+ *    ISBN 줄은 정규화 ISBN이 같은 문서만 사용 (다른 책이 섞여 들어오지 않도록)
+ * 3. 배치 전체를 한 트랜잭션으로 upsert → 체크포인트 저장
+ * 4. 서버가 죽으면 임대(lease-minutes)가 끝난 RUNNING 작업을 기동 시/claim-interval마다 체크포인트부터 재개
+ *
+ * [여러 노드]
+ * 작업은 조건부 UPDATE로 실행권(owner + 임대 만료 시각)을 얻은 노드 하나만 실행하고, 배치마다 임대를 연장한다.
+ * 연장이 실패하면(중지 요청, 임대 만료 후 다른 노드가 가져감) 체크포인트를 저장하지 않고 멈춘다.
+ *
+ * 지표: catalog.ingestion.books, catalog.ingestion.errors (+ 배치마다 books/sec 로그)
+ */
+@Slf4j
+@Service
+public class CatalogIngestionService {
+
+    private static final String EVENT_SOURCE = "catalog-ingestion";
+
+    private final CatalogIngestionJobRepository jobRepository;
+    private final KakaoBookClient kakaoBookClient;
+    private final BookImportService bookImportService;
+    private final TaskExecutor executor;
+
+    private final Path seedDir;
+    private final int batchSize;
+    private final int concurrency;
+    private final int querySize;
+    private final Duration lease;
+    private final RateBudget rateBudget;
+    private final String owner;
+
+    private final Counter booksCounter;
+    private final Counter errorsCounter;
+
+    /** 현재 이 인스턴스에서 실행 중인 작업 → 중지 플래그 */
+    private final Map<Long, AtomicBoolean> running = new ConcurrentHashMap<>();
+
+    public CatalogIngestionService(CatalogIngestionJobRepository jobRepository,
+                                   KakaoBookClient kakaoBookClient,
+                                   BookImportService bookImportService,
+                                   @Qualifier("ingestionExecutor") TaskExecutor executor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${ingestion.seed-dir:./ingestion-seeds}") String seedDir,
+                                   @Value("${ingestion.batch-size:50}") int batchSize,
+                                   @Value("${ingestion.concurrency:4}") int concurrency,
+                                   @Value("${ingestion.query-size:10}") int querySize,
+                                   @Value("${ingestion.lease-minutes:10}") long leaseMinutes,
+                                   @Value("${ingestion.rate-limit.permits-per-second:3}") double permitsPerSecond,
+                                   @Value("${ingestion.rate-limit.burst:3}") int burst) {
+        this.jobRepository = jobRepository;
+        this.kakaoBookClient = kakaoBookClient;
+        this.bookImportService = bookImportService;
+        this.executor = executor;
+        this.seedDir = Path.of(seedDir).toAbsolutePath().normalize();
+        this.batchSize = Math.max(1, batchSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.querySize = querySize;
+        this.lease = Duration.ofMinutes(Math.max(1, leaseMinutes));
+        this.rateBudget = new RateBudget(permitsPerSecond, burst);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+        this.booksCounter = Counter.builder("catalog.ingestion.books")
+                .description("대량 수집으로 upsert된 도서 수")
+                .register(meterRegistry);
+        this.errorsCounter = Counter.builder("catalog.ingestion.errors")
+                .description("대량 수집 중 실패한 줄 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수집 작업 시작
+     */
+    public IngestionJobResponse start(String sourceFile) {
+        resolveSeedFile(sourceFile);
+        boolean duplicated = jobRepository.findAllByStatus(IngestionJobStatus.RUNNING).stream()
+                .anyMatch(job -> job.getSourceFile().equals(sourceFile));
+        if (duplicated) throw new GeneralException(ErrorStatus.INGESTION_JOB_ALREADY_RUNNING);
+
+        CatalogIngestionJob job = jobRepository.save(CatalogIngestionJob.start(sourceFile, owner, leaseUntil()));
+        launch(job.getId());
+        return IngestionJobResponse.from(job);
+    }
+
+    /**
+     * 중지/실패한 작업을 체크포인트부터 재개
+     */
+    public IngestionJobResponse resume(Long jobId) {
+        CatalogIngestionJob job = getJob(jobId);
+        if (running.containsKey(jobId)) throw new GeneralException(ErrorStatus.INGESTION_JOB_ALREADY_RUNNING);
+        if (job.getStatus() == IngestionJobStatus.COMPLETED) {
+            throw new GeneralException(ErrorStatus.INGESTION_JOB_ALREADY_COMPLETED);
+        }
+
+        // 다른 노드가 실행 중이면 실행권을 얻지 못함
+        if (jobRepository.claim(jobId, owner, leaseUntil(), LocalDateTime.now()) == 0) {
+            throw new GeneralException(ErrorStatus.INGESTION_JOB_ALREADY_RUNNING);
+        }
+        launch(jobId);
+        return IngestionJobResponse.from(getJob(jobId));
+    }
+
+    /**
+     * 작업 중지 요청 (진행 중인 배치까지 처리하고 멈춤)
+     */
+    public IngestionJobResponse stop(Long jobId) {
+        CatalogIngestionJob job = getJob(jobId);
+        AtomicBoolean stopFlag = running.get(jobId);
+        if (stopFlag != null) {
+            stopFlag.set(true);
+        } else if (job.getStatus() == IngestionJobStatus.RUNNING) {
+            job.stop();
+            jobRepository.save(job);
+        }
+        return IngestionJobResponse.from(job);
+    }
+
+    public IngestionJobResponse get(Long jobId) {
+        return IngestionJobResponse.from(getJob(jobId));
+    }
+
+    public List<IngestionJobResponse> recent() {
+        return jobRepository.findTop20ByOrderByIdDesc().stream()
+                .map(IngestionJobResponse::from)
+                .toList();
+    }
+
+    /** 기동 직후: 비정상 종료로 RUNNING 상태로 남은 작업 재개 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeInterruptedJobs();
+    }
+
+    /**
+     * 임대가 끝난 RUNNING 작업(실행하던 노드가 죽음)을 실행권을 얻은 경우에만 재개
+     * 같은 작업을 여러 노드가 동시에 시도해도 claim은 한 노드만 성공
+     */
+    @Scheduled(initialDelayString = "${ingestion.claim-interval-millis:60000}",
+            fixedDelayString = "${ingestion.claim-interval-millis:60000}")
+    public void resumeInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        for (CatalogIngestionJob job : jobRepository.findAllByStatus(IngestionJobStatus.RUNNING)) {
+            if (running.containsKey(job.getId())) continue;
+            if (job.getLeaseUntil() != null && job.getLeaseUntil().isAfter(now)) continue;
+            if (jobRepository.claim(job.getId(), owner, leaseUntil(), now) == 0) continue;
+
+            log.info("중단된 수집 작업 재개 - jobId: {}, checkpoint: {}줄, 이전 실행 노드: {}",
+                    job.getId(), job.getCheckpointLine(), job.getOwner());
+            launch(job.getId());
+        }
+    }
+
+    private void launch(Long jobId) {
+        AtomicBoolean stopFlag = new AtomicBoolean(false);
+        if (running.putIfAbsent(jobId, stopFlag) != null) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId, stopFlag);
+                } finally {
+                    running.remove(jobId);
+                }
+            });
+        } catch (Exception e) {
+            running.remove(jobId);
+            throw e;
+        }
+    }
+
+    private void run(Long jobId, AtomicBoolean stopFlag) {
+        CatalogIngestionJob job = getJob(jobId);
+        long line = job.getCheckpointLine();
+
+        try (BufferedReader reader = Files.newBufferedReader(resolveSeedFile(job.getSourceFile()), StandardCharsets.UTF_8)) {
+            for (long i = 0; i < line; i++) {
+                if (reader.readLine() == null) break;
+            }
+
+            List<String> batch = new ArrayList<>(batchSize);
+            String next;
+            while ((next = reader.readLine()) != null) {
+                batch.add(next);
+                if (batch.size() < batchSize) continue;
+
+                line += batch.size();
+                job = processBatch(job, batch, line);
+                if (job == null) return;
+                batch.clear();
+
+                if (stopFlag.get()) {
+                    job.stop();
+                    jobRepository.save(job);
+                    log.info("수집 작업 중지 - jobId: {}, checkpoint: {}줄", jobId, line);
+                    return;
+                }
+            }
+            if (!batch.isEmpty()) {
+                line += batch.size();
+                job = processBatch(job, batch, line);
+                if (job == null) return;
+            }
+
+            job.complete();
+            jobRepository.save(job);
+            log.info("수집 작업 완료 - jobId: {}, 도서 {}권, 오류 {}건, 평균 {} books/sec",
+                    jobId, job.getImportedBooks(), job.getErrorCount(), String.format("%.1f", job.booksPerSecond()));
+        } catch (Exception e) {
+            log.error("수집 작업 실패 - jobId: {}, checkpoint: {}줄", jobId, job.getCheckpointLine(), e);
+            job.fail(e.getMessage());
+            jobRepository.save(job);
+        }
+    }
+
+    /**
+     * 배치 1개 처리: 동시 조회 → 일괄 upsert → 임대 연장 → 체크포인트
+     * @return 저장된 작업, 실행권을 잃었으면 null (체크포인트 저장 안 함 → 이어받은 쪽이 이 배치를 다시 처리, upsert라 중복 없음)
+     */
+    private CatalogIngestionJob processBatch(CatalogIngestionJob job, List<String> lines, long endLine) {
+        long start = System.currentTimeMillis();
+        AtomicLong errors = new AtomicLong();
+
+        List<KakaoBookSearchResponse.Document> documents = Flux.fromIterable(lines)
+                .map(String::trim)
+                .filter(q -> !q.isEmpty() && !q.startsWith("#"))
+                .flatMap(q -> fetch(q, errors), concurrency)
+                .collectList()
+                .block();
+
+        long imported = 0;
+        if (documents != null && !documents.isEmpty()) {
+            List<BookSearchItemResponse> items = bookImportService.upsertDocuments(documents, EVENT_SOURCE);
+            imported = items.stream().map(BookSearchItemResponse::bookId).distinct().count();
+        }
+
+        if (jobRepository.renewLease(job.getId(), owner, leaseUntil()) == 0) {
+            log.info("수집 작업 실행권 상실 (중지 요청 또는 다른 노드가 재개) - jobId: {}, ~{}줄", job.getId(), endLine);
+            return null;
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        job.checkpoint(endLine, imported, errors.get(), elapsed);
+        CatalogIngestionJob saved = jobRepository.save(job);
+
+        booksCounter.increment(imported);
+        errorsCounter.increment(errors.get());
+        log.info("수집 배치 완료 - jobId: {}, ~{}줄, 도서 {}권, 오류 {}건, {} books/sec",
+                job.getId(), endLine, imported, errors.get(),
+                String.format("%.1f", elapsed == 0 ? 0 : imported * 1000.0 / elapsed));
+        return saved;
+    }
+
+    /**
+     * 한 줄(ISBN 또는 검색어) 조회
+     * - ISBN(ISBN-10 X 체크 숫자 포함): 정규화 ISBN이 같은 문서 1건만
+     * - 검색어: 상위 query-size건
+     * 호출 한도 초과는 백오프 후 재시도, 그 외 오류는 건너뛰고 오류 수만 기록
+     */
+    private Flux<KakaoBookSearchResponse.Document> fetch(String query, AtomicLong errors) {
+        String isbn = IsbnNormalizer.canonical(query);
+        Flux<KakaoBookSearchResponse.Document> documents = rateBudget.acquire()
+                .then(Mono.defer(() -> kakaoBookClient.searchUncached(isbn != null ? isbn : query, 1, querySize)))
+                .retryWhen(Retry.backoff(5, Duration.ofSeconds(1))
+                        .filter(this::isRateLimited)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .flatMapIterable(res -> res.getDocuments() == null ? List.of() : res.getDocuments());
+        if (isbn != null) {
+            documents = documents
+                    .filter(doc -> Objects.equals(IsbnNormalizer.canonical(doc.getIsbn()), isbn))
+                    .take(1);
+        }
+        return documents
+                .onErrorResume(e -> {
+                    errors.incrementAndGet();
+                    log.debug("수집 조회 실패 (건너뜀) - query: {}, error: {}", query, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plus(lease);
+    }
+
+    private static String hostName() {
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return host.length() > 80 ? host.substring(0, 80) : host;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    private boolean isRateLimited(Throwable e) {
+        return e instanceof GeneralException ge && ge.getCode() == ErrorStatus.EXTERNAL_API_RATE_LIMITED;
+    }
+
+    /** seed 디렉터리 밖의 경로는 거부 */
+    private Path resolveSeedFile(String sourceFile) {
+        Path file = seedDir.resolve(sourceFile).normalize();
+        if (!file.startsWith(seedDir) || !Files.isRegularFile(file)) {
+            throw new GeneralException(ErrorStatus.INGESTION_SEED_FILE_NOT_FOUND);
+        }
+        return file;
+    }
+
+    private CatalogIngestionJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.INGESTION_JOB_NOT_FOUND));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.converter.IsbnNormalizer;
+import com.example.booklog.domain.library.books.dto.KakaoBookSearchResponse;
+import com.example.booklog.domain.library.books.entity.Books;
+import com.example.booklog.domain.library.books.repository.BookBulkJdbcRepository;
+import com.example.booklog.domain.library.books.repository.BooksRepository;
+import com.example.booklog.domain.library.books.service.client.KakaoBookClient;
+import com.example.booklog.global.common.repository.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 재동기화 스케줄러 (synced_at 기준)
+ *
+ * 검색으로 우연히 다시 임포트되지 않으면 도서 메타데이터가 갱신되지 않으므로,
+ * 주기마다 오래된 도서를 batch-size개씩 골라 카카오에서 다시 가져온다.
+ * - 우선순위: 최근 activity-window-days 동안 서재/북로그 활동이 많은 도서 → 나머지는 오래된 순
+ * - 호출량: interval-millis 마다 batch-size건 (카카오 쿼터보다 충분히 낮게 유지)
+ * - 카카오에서 못 찾은 도서도 synced_at을 갱신해서 같은 도서만 반복 조회하지 않음
+ * - 여러 인스턴스 중 실행권(scheduler_leases, lease-millis)을 가진 한 곳만 실행 → 인스턴스 수와 관계없이 호출량 유지
+ *
+ * 지표: catalog.resync.books{result=refreshed|missing|error}
+ */
+@Slf4j
+@Service
+public class CatalogResyncService {
+
+    private static final String EVENT_SOURCE = "catalog-resync";
+    private static final String LEASE_NAME = "catalog-resync";
+
+    private final BooksRepository booksRepository;
+    private final BookBulkJdbcRepository bookBulkJdbcRepository;
+    private final KakaoBookClient kakaoBookClient;
+    private final BookImportService bookImportService;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private final boolean enabled;
+    private final long staleAfterDays;
+    private final long activityWindowDays;
+    private final int batchSize;
+    private final int concurrency;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final Counter refreshedCounter;
+    private final Counter missingCounter;
+    private final Counter errorCounter;
+
+    public CatalogResyncService(BooksRepository booksRepository,
+                                BookBulkJdbcRepository bookBulkJdbcRepository,
+                                KakaoBookClient kakaoBookClient,
+                                BookImportService bookImportService,
+                                SchedulerLeaseRepository schedulerLeaseRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${resync.enabled:true}") boolean enabled,
+                                @Value("${resync.stale-after-days:30}") long staleAfterDays,
+                                @Value("${resync.activity-window-days:7}") long activityWindowDays,
+                                @Value("${resync.batch-size:20}") int batchSize,
+                                @Value("${resync.concurrency:2}") int concurrency,
+                                @Value("${resync.lease-millis:300000}") long leaseMillis) {
+        this.booksRepository = booksRepository;
+        this.bookBulkJdbcRepository = bookBulkJdbcRepository;
+        this.kakaoBookClient = kakaoBookClient;
+        this.bookImportService = bookImportService;
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.enabled = enabled;
+        this.staleAfterDays = staleAfterDays;
+        this.activityWindowDays = activityWindowDays;
+        this.batchSize = Math.max(1, batchSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.lease = Duration.ofMillis(Math.max(1000, leaseMillis));
+
+        this.refreshedCounter = counter(meterRegistry, "refreshed");
+        this.missingCounter = counter(meterRegistry, "missing");
+        this.errorCounter = counter(meterRegistry, "error");
+    }
+
+    @Scheduled(fixedDelayString = "${resync.interval-millis:60000}",
+            initialDelayString = "${resync.initial-delay-millis:120000}")
+    public void resyncStaleBooks() {
+        if (!enabled) return;
+        try {
+            if (!schedulerLeaseRepository.tryAcquire(LEASE_NAME, owner, lease)) return;
+        } catch (Exception e) {
+            log.warn("재동기화 실행권 확인 실패 (이번 주기 건너뜀): {}", e.getMessage());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = pickStaleIds(now.minusDays(staleAfterDays), now.minusDays(activityWindowDays));
+        if (ids.isEmpty()) return;
+
+        long start = System.currentTimeMillis();
+        List<Books> books = booksRepository.findAllById(ids);
+        AtomicLong missing = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        Set<Long> syncedIds = ConcurrentHashMap.newKeySet();
+
+        List<KakaoBookSearchResponse.Document> documents = Flux.fromIterable(books)
+                .flatMap(book -> fetch(book, syncedIds, missing, errors), concurrency)
+                .collectList()
+                .block();
+
+        if (documents != null && !documents.isEmpty()) {
+            bookImportService.upsertDocuments(documents, EVENT_SOURCE);
+        }
+
+        // 갱신됐거나 카카오에 없는 도서만 동기화 시각 갱신 (오류 난 도서는 다음 주기에 다시 시도)
+        bookBulkJdbcRepository.touchSyncedAt(syncedIds);
+
+        refreshedCounter.increment(documents == null ? 0 : documents.size());
+        missingCounter.increment(missing.get());
+        errorCounter.increment(errors.get());
+        log.info("카탈로그 재동기화 - 대상 {}권, 갱신 {}권, 카카오 없음 {}권, 오류 {}건, {}ms",
+                books.size(), documents == null ? 0 : documents.size(), missing.get(), errors.get(),
+                System.currentTimeMillis() - start);
+    }
+
+    /** 활동 많은 도서 우선, 남는 자리는 오래된 순으로 채움 */
+    private List<Long> pickStaleIds(LocalDateTime cutoff, LocalDateTime activitySince) {
+        Set<Long> ids = new LinkedHashSet<>(booksRepository.findStaleIdsByRecentActivity(cutoff, activitySince, batchSize));
+        if (ids.size() < batchSize) {
+            for (Long id : booksRepository.findStaleIds(cutoff, batchSize)) {
+                if (ids.size() >= batchSize) break;
+                ids.add(id);
+            }
+        }
+        return List.copyOf(ids);
+    }
+
+    /**
+     * 도서 1권 재조회
+     * - 정규화 ISBN이 있으면 ISBN으로 검색 후 정규화 ISBN이 같은 문서만 사용
+     * - 없으면 제목으로 검색 후 같은 상세 URL 문서만 사용
+     * 결과가 확정된 도서(찾음/카카오에 없음)만 syncedIds에 담음
+     */
+    private Mono<KakaoBookSearchResponse.Document> fetch(Books book, Set<Long> syncedIds,
+                                                         AtomicLong missing, AtomicLong errors) {
+        String isbn = book.getCanonicalIsbn();
+        boolean byIsbn = isbn != null;
+        String query = byIsbn ? isbn : book.getTitle();
+        if (query == null || query.isBlank()) {
+            missing.incrementAndGet();
+            syncedIds.add(book.getId());
+            return Mono.empty();
+        }
+
+        return kakaoBookClient.searchUncached(query, 1, byIsbn ? 5 : 10)
+                .flatMapIterable(res -> res.getDocuments() == null ? List.of() : res.getDocuments())
+                .filter(doc -> byIsbn
+                        ? isbn.equals(IsbnNormalizer.canonical(doc.getIsbn()))
+                        : Objects.equals(doc.getUrl(), book.getDetailUrl()))
+                .next()
+                .doOnNext(doc -> syncedIds.add(book.getId()))
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    missing.incrementAndGet();
+                    syncedIds.add(book.getId());
+                }))
+                .onErrorResume(e -> {
+                    errors.incrementAndGet();
+                    log.debug("재동기화 조회 실패 - bookId: {}, error: {}", book.getId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("catalog.resync.books")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ *
+ * CLOSED: 정상 호출, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * OPEN: openMillis 동안 호출 없이 즉시 실패
+ * HALF_OPEN: 시험 호출 1건만 허용 → 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 시험 호출이 취소되면(상위 타임아웃 등) onCancel로 자리를 비워 다음 호출이 다시 시험한다.
+ * 취소 신호조차 못 받은 경우를 대비해 probeTimeoutMillis가 지난 시험 호출은 끝난 것으로 본다.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final long probeTimeoutMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+    private long probeStartedAt;
+
+    CircuitBreaker(int failureThreshold, long openMillis, long probeTimeoutMillis) {
+        this(failureThreshold, openMillis, probeTimeoutMillis, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMillis, long probeTimeoutMillis, LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+        this.probeTimeoutMillis = Math.max(1, probeTimeoutMillis);
+        this.clock = clock;
+    }
+
+    synchronized boolean tryAcquire() {
+        long now = clock.getAsLong();
+        if (state == State.OPEN && now - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight && now - probeStartedAt < probeTimeoutMillis) yield false;
+                probeInFlight = true;
+                probeStartedAt = now;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    /** 결과 없이 취소된 호출: 성공/실패로 세지 않고 시험 호출 자리만 비움 */
+    synchronized void onCancel() {
+        probeInFlight = false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
+import com.example.booklog.global.common.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API(카카오/위키데이터) 호출 보호 계층
+ *
+ * [호출 1건당 순서]
+ * 1. 토큰 버킷: 쿼터를 넘으면 max-wait 안에 토큰이 채워질 때만 (타이머로) 기다렸다 호출, 아니면 거절 (EXTERNAL_API_RATE_LIMITED)
+ * 2. 서킷 브레이커: 장애 중이면 즉시 거절 (EXTERNAL_API_UNAVAILABLE)
+ * 3. 시도별 타임아웃 (호출 측이 먼저 취소하면 성공/실패로 세지 않고 서킷 시험 호출 자리만 반납)
+ * 4. 5xx / 429 / 타임아웃 / 연결 오류만 지터 백오프로 재시도 (재시도도 1~3을 다시 거침)
+ *
+ * 장애가 나도 요청 스레드가 외부 API 응답을 무한정 기다리지 않도록 하는 것이 목적.
+ *
+ * 지표:
+ * - external.api.requests{api, endpoint, outcome} : 시도별 지연/결과 (outcome=cancelled 포함)
+ * - external.api.rejected{api, reason=quota|circuit_open} : 호출 전 거절
+ * - external.api.quota.available{api} : 남은 토큰
+ * - external.api.circuit.state{api} : 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+ */
+@Slf4j
+public class ExternalApiGuard {
+
+    private final String api;
+    private final Policy policy;
+    private final MeterRegistry meterRegistry;
+    private final TokenBucket tokenBucket;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Counter quotaRejected;
+    private final Counter circuitRejected;
+
+    public ExternalApiGuard(String api, Policy policy, MeterRegistry meterRegistry) {
+        this.api = api;
+        this.policy = policy;
+        this.meterRegistry = meterRegistry;
+        this.tokenBucket = new TokenBucket(policy.permitsPerSecond(), policy.burst());
+        this.circuitBreaker = new CircuitBreaker(policy.failureThreshold(), policy.openMillis(), policy.attemptTimeoutMillis());
+
+        this.quotaRejected = Counter.builder("external.api.rejected")
+                .tags("api", api, "reason", "quota")
+                .register(meterRegistry);
+        this.circuitRejected = Counter.builder("external.api.rejected")
+                .tags("api", api, "reason", "circuit_open")
+                .register(meterRegistry);
+        Gauge.builder("external.api.quota.available", tokenBucket, TokenBucket::available)
+                .tag("api", api)
+                .register(meterRegistry);
+        Gauge.builder("external.api.circuit.state", circuitBreaker, cb -> switch (cb.state()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .tag("api", api)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호 계층을 거쳐 호출
+     *
+     * @param endpoint 지표 태그용 엔드포인트 이름
+     * @param request 시도마다 새로 만들 요청 (재시도 시 재구독)
+     */
+    public <T> Mono<T> call(String endpoint, Supplier<Mono<T>> request) {
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(policy.maxWaitMillis());
+        Mono<T> attempt = Mono.defer(() -> {
+            long waitNanos = tokenBucket.reserve(maxWaitNanos);
+            if (waitNanos < 0) {
+                quotaRejected.increment();
+                return Mono.error(new GeneralException(ErrorStatus.EXTERNAL_API_RATE_LIMITED));
+            }
+            Mono<T> guarded = Mono.defer(() -> guardedAttempt(endpoint, request));
+            return (waitNanos == 0) ? guarded : Mono.delay(Duration.ofNanos(waitNanos)).then(guarded);
+        });
+
+        if (policy.maxRetries() <= 0) return attempt;
+
+        return attempt.retryWhen(Retry.backoff(policy.maxRetries(), Duration.ofMillis(policy.minBackoffMillis()))
+                .maxBackoff(Duration.ofMillis(policy.maxBackoffMillis()))
+                .jitter(0.5)
+                .filter(this::isFailure)
+                .doBeforeRetry(signal -> log.debug("{} {} 재시도 {}회 - {}",
+                        api, endpoint, signal.totalRetries() + 1, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /** 서킷 확인 후 시도 1회 (성공/실패/취소 중 처음 온 신호 하나만 서킷에 반영) */
+    private <T> Mono<T> guardedAttempt(String endpoint, Supplier<Mono<T>> request) {
+        if (!circuitBreaker.tryAcquire()) {
+            circuitRejected.increment();
+            return Mono.error(new GeneralException(ErrorStatus.EXTERNAL_API_UNAVAILABLE));
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean settled = new AtomicBoolean();
+        return request.get()
+                .timeout(Duration.ofMillis(policy.attemptTimeoutMillis()))
+                .doOnSuccess(v -> {
+                    if (!settled.compareAndSet(false, true)) return;
+                    circuitBreaker.onSuccess();
+                    record(endpoint, "success", start);
+                })
+                .doOnError(e -> {
+                    if (!settled.compareAndSet(false, true)) return;
+                    if (isFailure(e)) circuitBreaker.onFailure();
+                    else circuitBreaker.onSuccess(); // 4xx 등은 API가 살아있다는 뜻
+                    record(endpoint, outcomeOf(e), start);
+                })
+                .doOnCancel(() -> {
+                    if (!settled.compareAndSet(false, true)) return;
+                    circuitBreaker.onCancel();
+                    record(endpoint, "cancelled", start);
+                });
+    }
+
+    /** 재시도/서킷 실패로 볼 오류인지 (5xx, 429, 타임아웃, 연결 오류) */
+    private boolean isFailure(Throwable e) {
+        if (e instanceof WebClientResponseException res) {
+            return res.getStatusCode().is5xxServerError() || res.getStatusCode().value() == 429;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+
+    private String outcomeOf(Throwable e) {
+        if (e instanceof WebClientResponseException res) {
+            if (res.getStatusCode().value() == 429) return "rate_limited";
+            return res.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+        }
+        if (e instanceof TimeoutException) return "timeout";
+        if (e instanceof WebClientRequestException) return "io_error";
+        return "error";
+    }
+
+    private void record(String endpoint, String outcome, long startNanos) {
+        Timer.builder("external.api.requests")
+                .tags("api", api, "endpoint", endpoint, "outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 외부 API별 보호 정책
+     *
+     * @param permitsPerSecond 초당 허용 호출 수 (쿼터 기준)
+     * @param burst 순간 최대 호출 수
+     * @param maxWaitMillis 토큰이 없을 때 기다릴 최대 시간 (0이면 즉시 거절)
+     * @param attemptTimeoutMillis 시도 1회 최대 대기 시간
+     * @param maxRetries 최대 재시도 횟수 (0이면 재시도 없음)
+     * @param minBackoffMillis 첫 재시도 대기 시간 (지터 적용)
+     * @param maxBackoffMillis 재시도 대기 상한
+     * @param failureThreshold 서킷을 여는 연속 실패 수
+     * @param openMillis 서킷 유지 시간
+     */
+    public record Policy(
+            double permitsPerSecond,
+            int burst,
+            long maxWaitMillis,
+            long attemptTimeoutMillis,
+            int maxRetries,
+            long minBackoffMillis,
+            long maxBackoffMillis,
+            int failureThreshold,
+            long openMillis
+    ) {
+        public static Policy from(Environment env, String prefix) {
+            return new Policy(
+                    env.getProperty(prefix + ".rate-limit.permits-per-second", Double.class, 10d),
+                    env.getProperty(prefix + ".rate-limit.burst", Integer.class, 20),
+                    env.getProperty(prefix + ".rate-limit.max-wait-millis", Long.class, 0L),
+                    env.getProperty(prefix + ".attempt-timeout-millis", Long.class, 3000L),
+                    env.getProperty(prefix + ".retry.max-retries", Integer.class, 2),
+                    env.getProperty(prefix + ".retry.min-backoff-millis", Long.class, 200L),
+                    env.getProperty(prefix + ".retry.max-backoff-millis", Long.class, 1000L),
+                    env.getProperty(prefix + ".circuit-breaker.failure-threshold", Integer.class, 5),
+                    env.getProperty(prefix + ".circuit-breaker.open-millis", Long.class, 30000L)
+            );
+        }
+    }
+}
@@ -5,15 +5,39 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Component
 @RequiredArgsConstructor
 public class KakaoBookClient {
 
     private final WebClient kakaoWebClient;
+    private final ExternalApiGuard kakaoApiGuard;
+    private final KakaoResponseCache kakaoResponseCache;
 
+    /**
+     * 도서 검색 (응답 캐시 적중 시 카카오 호출 생략)
+     * 캐시 조회/저장은 Redis 왕복이 있어 boundedElastic에서 실행 (호출 스레드/이벤트 루프를 막지 않음)
+     */
     public Mono<KakaoBookSearchResponse> search(String query, int page, int size) {
-        return kakaoWebClient.get()
+        return Mono.fromCallable(() -> kakaoResponseCache.get(query, page, size))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> fetch(query, page, size)
+                        .flatMap(res -> Mono.fromRunnable(() -> kakaoResponseCache.put(query, page, size, res))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(res))));
+    }
+
+    /**
+     * 캐시를 거치지 않는 도서 검색 (대량 수집/재동기화용)
+     * 최신 응답이 필요하고, 한 번만 조회할 결과로 캐시의 자주 쓰는 항목을 밀어내지 않도록 저장도 하지 않음
+     */
+    public Mono<KakaoBookSearchResponse> searchUncached(String query, int page, int size) {
+        return fetch(query, page, size);
+    }
+
+    private Mono<KakaoBookSearchResponse> fetch(String query, int page, int size) {
+        return kakaoApiGuard.call("book-search", () -> kakaoWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/v3/search/book")
                         .queryParam("query", query)
@@ -21,6 +45,6 @@ public class KakaoBookClient {
                         .queryParam("size", size)
                         .build())
                 .retrieve()
-                .bodyToMono(KakaoBookSearchResponse.class);
+                .bodyToMono(KakaoBookSearchResponse.class));
     }
 }
@@ -0,0 +1,102 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 카카오 도서 검색 "결과 없음" 캐시
+ *
+ * 카카오에서 문서가 0건이었던 도서명/검색어를 TTL 동안 기억해 같은 요청으로 쿼터를 쓰지 않게 한다.
+ * - 키: 정규화된 도서명/검색어 (NFC + 공백 정리 + 소문자)
+ * - 크기 제한: LRU (가장 오래 조회되지 않은 항목부터 제거)
+ * - 오류/타임아웃은 기록하지 않는다. (실제로 결과가 없던 경우만)
+ *
+ * 지표: kakao.negative-cache.requests{result=hit|miss}, kakao.negative-cache.size
+ */
+@Slf4j
+@Component
+public class KakaoNegativeCache {
+
+    private final long ttlMillis;
+    private final Map<String, Long> expiresAtByKey;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public KakaoNegativeCache(MeterRegistry meterRegistry,
+                              @Value("${kakao.negative-cache.ttl-minutes:360}") long ttlMinutes,
+                              @Value("${kakao.negative-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.expiresAtByKey = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hitCounter = Counter.builder("kakao.negative-cache.requests")
+                .tag("result", "hit")
+                .description("카카오 호출 전 '결과 없음' 캐시 적중")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("kakao.negative-cache.requests")
+                .tag("result", "miss")
+                .description("카카오 호출 전 '결과 없음' 캐시 미적중")
+                .register(meterRegistry);
+        Gauge.builder("kakao.negative-cache.size", this, KakaoNegativeCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 카카오에서 결과가 없었던 도서명/검색어인지 (true면 카카오 호출 생략)
+     */
+    public boolean isKnownEmpty(String query) {
+        String key = normalizeKey(query);
+        if (key.isEmpty()) return false;
+
+        boolean hit;
+        synchronized (expiresAtByKey) {
+            Long expiresAt = expiresAtByKey.get(key);
+            hit = expiresAt != null && expiresAt > System.currentTimeMillis();
+            if (expiresAt != null && !hit) {
+                expiresAtByKey.remove(key);
+            }
+        }
+
+        (hit ? hitCounter : missCounter).increment();
+        return hit;
+    }
+
+    /**
+     * 카카오 응답 문서가 0건이었음을 기록
+     */
+    public void recordEmpty(String query) {
+        String key = normalizeKey(query);
+        if (key.isEmpty()) return;
+
+        synchronized (expiresAtByKey) {
+            expiresAtByKey.put(key, System.currentTimeMillis() + ttlMillis);
+        }
+        log.debug("카카오 결과 없음 캐시 등록: key={}", key);
+    }
+
+    public int size() {
+        synchronized (expiresAtByKey) {
+            return expiresAtByKey.size();
+        }
+    }
+
+    public static String normalizeKey(String query) {
+        if (query == null) return "";
+        String nfc = Normalizer.normalize(query, Normalizer.Form.NFC);
+        return nfc.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import com.example.booklog.domain.library.books.dto.KakaoBookSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카카오 도서 검색 응답 캐시 (로컬 LRU + Redis 2단)
+ *
+ * 같은 (검색어, page, size)가 임포트/홈 메타데이터/작가 검색에서 반복 호출되므로
+ * 파싱된 응답을 gzip JSON으로 압축해 보관한다.
+ * - 키: 정규화된 검색어(KakaoNegativeCache.normalizeKey) + page + size
+ * - 로컬: 최대 local-max-size개, TTL local-ttl-seconds
+ * - Redis: kakao:search:{key}, TTL redis-ttl-minutes (Redis 오류 시 잠시 건너뜀)
+ *
+ * 지표: kakao.response-cache.requests{result=local|redis|miss}, kakao.response-cache.size
+ */
+@Slf4j
+@Component
+public class KakaoResponseCache {
+
+    private static final String REDIS_PREFIX = "kakao:search:";
+    private static final long REDIS_BACKOFF_MILLIS = 30_000;
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final long localTtlMillis;
+    private final long redisTtlSeconds;
+
+    private final Map<String, Entry> local;
+    private volatile long redisSkipUntil = 0;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public KakaoResponseCache(ObjectMapper objectMapper,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${kakao.response-cache.enabled:true}") boolean enabled,
+                              @Value("${kakao.response-cache.redis-enabled:true}") boolean redisEnabled,
+                              @Value("${kakao.response-cache.local-max-size:2000}") int localMaxSize,
+                              @Value("${kakao.response-cache.local-ttl-seconds:600}") long localTtlSeconds,
+                              @Value("${kakao.response-cache.redis-ttl-minutes:1440}") long redisTtlMinutes) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.localTtlMillis = localTtlSeconds * 1000L;
+        this.redisTtlSeconds = redisTtlMinutes * 60L;
+        this.local = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+
+        this.localHitCounter = Counter.builder("kakao.response-cache.requests")
+                .tag("result", "local")
+                .register(meterRegistry);
+        this.redisHitCounter = Counter.builder("kakao.response-cache.requests")
+                .tag("result", "redis")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("kakao.response-cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("kakao.response-cache.size", this, KakaoResponseCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답 조회 (없으면 null)
+     */
+    public KakaoBookSearchResponse get(String query, int page, int size) {
+        if (!enabled) return null;
+        String key = keyOf(query, page, size);
+        if (key == null) return null;
+
+        byte[] compressed = getLocal(key);
+        if (compressed != null) {
+            KakaoBookSearchResponse res = decode(compressed);
+            if (res != null) {
+                localHitCounter.increment();
+                return res;
+            }
+        }
+
+        compressed = getRedis(key);
+        if (compressed != null) {
+            KakaoBookSearchResponse res = decode(compressed);
+            if (res != null) {
+                putLocal(key, compressed);
+                redisHitCounter.increment();
+                return res;
+            }
+        }
+
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 카카오 응답 저장
+     */
+    public void put(String query, int page, int size, KakaoBookSearchResponse response) {
+        if (!enabled || response == null) return;
+        String key = keyOf(query, page, size);
+        if (key == null) return;
+
+        byte[] compressed = encode(response);
+        if (compressed == null) return;
+
+        putLocal(key, compressed);
+        putRedis(key, compressed);
+    }
+
+    public int size() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    private byte[] getLocal(String key) {
+        synchronized (local) {
+            Entry entry = local.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt() <= System.currentTimeMillis()) {
+                local.remove(key);
+                return null;
+            }
+            return entry.compressed();
+        }
+    }
+
+    private void putLocal(String key, byte[] compressed) {
+        synchronized (local) {
+            local.put(key, new Entry(compressed, System.currentTimeMillis() + localTtlMillis));
+        }
+    }
+
+    private byte[] getRedis(String key) {
+        if (!redisUsable()) return null;
+        byte[] redisKey = (REDIS_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+        try {
+            return redisTemplate.execute((RedisCallback<byte[]>) conn -> conn.stringCommands().get(redisKey));
+        } catch (Exception e) {
+            backOffRedis(e);
+            return null;
+        }
+    }
+
+    private void putRedis(String key, byte[] compressed) {
+        if (!redisUsable()) return;
+        byte[] redisKey = (REDIS_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Boolean>) conn -> conn.stringCommands().set(
+                    redisKey, compressed, Expiration.seconds(redisTtlSeconds), RedisStringCommands.SetOption.upsert()));
+        } catch (Exception e) {
+            backOffRedis(e);
+        }
+    }
+
+    private boolean redisUsable() {
+        return redisEnabled && System.currentTimeMillis() >= redisSkipUntil;
+    }
+
+    /** Redis 오류가 나면 잠시 로컬 캐시만 사용 (요청마다 연결 실패를 기다리지 않도록) */
+    private void backOffRedis(Exception e) {
+        redisSkipUntil = System.currentTimeMillis() + REDIS_BACKOFF_MILLIS;
+        log.warn("카카오 응답 캐시 Redis 오류 - {}초간 로컬 캐시만 사용: {}", REDIS_BACKOFF_MILLIS / 1000, e.getMessage());
+    }
+
+    private byte[] encode(KakaoBookSearchResponse response) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, response);
+        } catch (IOException e) {
+            log.warn("카카오 응답 직렬화 실패 (캐시 생략): {}", e.getMessage());
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    private KakaoBookSearchResponse decode(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return objectMapper.readValue(gzip, KakaoBookSearchResponse.class);
+        } catch (IOException e) {
+            log.warn("카카오 응답 캐시 역직렬화 실패 (무시): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String keyOf(String query, int page, int size) {
+        String normalized = KakaoNegativeCache.normalizeKey(query);
+        if (normalized.isEmpty()) return null;
+        return normalized + "|" + page + "|" + size;
+    }
+
+    private record Entry(byte[] compressed, long expiresAt) {}
+}
@@ -0,0 +1,33 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 백그라운드 작업용 호출 예산 (공용 ExternalApiGuard 쿼터 앞단)
+ *
+ * 대량 수집처럼 오래 도는 작업이 공용 토큰 버킷을 비워 사용자 요청이 거절되지 않도록,
+ * 작업 쪽 호출을 permitsPerSecond 이하로 먼저 늦춘다 (나머지 쿼터는 실시간 요청 몫).
+ * 토큰이 없으면 거절하지 않고 채워질 때까지 타이머로 기다린다.
+ */
+public class RateBudget {
+
+    private final TokenBucket tokenBucket;
+
+    public RateBudget(double permitsPerSecond, int burst) {
+        this.tokenBucket = new TokenBucket(permitsPerSecond, burst);
+    }
+
+    /** 토큰 1개를 얻을 때까지 기다렸다가 완료 (구독마다 새로 예약 → 재시도 시에도 다시 대기) */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = tokenBucket.reserve(Long.MAX_VALUE);
+            return (waitNanos == 0) ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    public double available() {
+        return tokenBucket.available();
+    }
+}
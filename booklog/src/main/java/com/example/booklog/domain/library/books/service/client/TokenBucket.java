@@ -0,0 +1,66 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 (외부 API 호출 속도 제한)
+ *
+ * 초당 permitsPerSecond개씩 채워지고 최대 burst개까지 쌓인다.
+ * 토큰이 없으면 maxWait 안에 채워질 때만 예약(토큰을 미리 빼고 기다릴 시간 반환)하고, 그 이상이면 거절한다.
+ * 기다리는 것은 호출 측 타이머(Mono.delay)라 요청 스레드를 붙잡지 않는다.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.capacity = Math.max(1, burst);
+        this.refillPerNano = Math.max(permitsPerSecond, 1e-9) / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /** 기다리지 않고 토큰 1개 사용 */
+    synchronized boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * 토큰 1개 예약
+     *
+     * @param maxWaitNanos 허용할 최대 대기 시간
+     * @return 기다려야 할 시간(ns, 0이면 바로 호출), 대기가 maxWaitNanos를 넘으면 -1 (예약하지 않음)
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+        if (waitNanos > maxWaitNanos) return -1;
+        tokens -= 1; // 먼저 예약한 호출부터 순서대로 채워진 토큰을 쓰도록 음수까지 허용
+        return waitNanos;
+    }
+
+    synchronized double available() {
+        refill();
+        return Math.max(0, tokens);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
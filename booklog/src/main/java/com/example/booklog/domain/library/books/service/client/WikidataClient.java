@@ -1,5 +1,6 @@
 package com.example.booklog.domain.library.books.service.client;
 
+import com.example.booklog.domain.library.books.dto.WikidataEntityFacts;
 import com.example.booklog.domain.library.books.dto.WikidataEntityResponse;
 import com.example.booklog.domain.library.books.dto.WikidataSearchResponse;
 import lombok.RequiredArgsConstructor;
@@ -8,14 +9,22 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class WikidataClient {
 
+    /** wbgetentities 1회 최대 id 수 (위키데이터 API 제한) */
+    public static final int MAX_IDS_PER_REQUEST = 50;
+
     private final @Qualifier("wikidataWebClient") WebClient wikidataWebClient;
+    private final ExternalApiGuard wikidataApiGuard;
+    private final WikidataEntityParser entityParser;
 
     public Mono<WikidataSearchResponse> searchEntity(String name) {
-        return wikidataWebClient.get()
+        return wikidataApiGuard.call("wbsearchentities", () -> wikidataWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/w/api.php")
                         .queryParam("action", "wbsearchentities")
@@ -25,11 +34,11 @@ public class WikidataClient {
                         .queryParam("limit", 5)
                         .build())
                 .retrieve()
-                .bodyToMono(WikidataSearchResponse.class);
+                .bodyToMono(WikidataSearchResponse.class));
     }
 
     public Mono<WikidataEntityResponse> getEntity(String qid) {
-        return wikidataWebClient.get()
+        return wikidataApiGuard.call("wbgetentities", () -> wikidataWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/w/api.php")
                         .queryParam("action", "wbgetentities")
@@ -39,6 +48,39 @@ public class WikidataClient {
                         .queryParam("props", "labels|descriptions|claims|sitelinks")
                         .build())
                 .retrieve()
-                .bodyToMono(WikidataEntityResponse.class);
+                .bodyToMono(WikidataEntityResponse.class));
+    }
+
+    /**
+     * 작가 엔티티 여러 건을 한 번에 조회해서 필요한 값만 추출 (wbgetentities ids=Q1|Q2|..., 최대 50개)
+     * 응답은 Map으로 역직렬화하지 않고 WikidataEntityParser로 스트리밍 파싱한다.
+     */
+    public Mono<Map<String, WikidataEntityFacts>> getEntityFacts(Collection<String> qids) {
+        return fetchEntities(qids, "labels|descriptions|claims|sitelinks");
+    }
+
+    /** 수상/직업/국적 등 참조 엔티티의 라벨만 조회 (최대 50개) */
+    public Mono<Map<String, WikidataEntityFacts>> getLabels(Collection<String> qids) {
+        return fetchEntities(qids, "labels");
+    }
+
+    private Mono<Map<String, WikidataEntityFacts>> fetchEntities(Collection<String> qids, String props) {
+        if (qids.size() > MAX_IDS_PER_REQUEST) {
+            throw new IllegalArgumentException("wbgetentities는 최대 " + MAX_IDS_PER_REQUEST + "개까지 조회 가능");
+        }
+        String ids = String.join("|", qids);
+        return wikidataApiGuard.call("wbgetentities", () -> wikidataWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/w/api.php")
+                        .queryParam("action", "wbgetentities")
+                        .queryParam("format", "json")
+                        .queryParam("ids", ids)
+                        .queryParam("languages", "ko|en")
+                        .queryParam("sitefilter", "kowiki|enwiki")
+                        .queryParam("props", props)
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(entityParser::parseEntities));
     }
 }
@@ -0,0 +1,286 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import com.example.booklog.domain.library.books.dto.WikidataEntityFacts;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * wbgetentities 응답 스트리밍 파서
+ *
+ * 엔티티 전체를 트리(Map)로 만들지 않고 토큰을 따라가며 필요한 값만 꺼낸다.
+ * - labels / descriptions : ko, en
+ * - sitelinks : kowiki, enwiki 제목
+ * - claims : P166(수상, 한정자 P585/P1686), P569(생일), P106(직업), P27(국적), P18(이미지)
+ * 나머지 claim(수백 개)은 skipChildren으로 건너뜀.
+ */
+@Component
+public class WikidataEntityParser {
+
+    private static final String P_AWARD = "P166";
+    private static final String P_BIRTH_DATE = "P569";
+    private static final String P_OCCUPATION = "P106";
+    private static final String P_CITIZENSHIP = "P27";
+    private static final String P_IMAGE = "P18";
+    private static final String Q_POINT_IN_TIME = "P585";
+    private static final String Q_FOR_WORK = "P1686";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /** { "entities": { "Q1": {...}, ... } } → qid별 추출 결과 (missing 엔티티 제외) */
+    public Map<String, WikidataEntityFacts> parseEntities(byte[] body) {
+        Map<String, WikidataEntityFacts> result = new LinkedHashMap<>();
+        if (body == null || body.length == 0) return result;
+
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) return result;
+
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("entities".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String qid = p.currentName();
+                        p.nextToken();
+                        WikidataEntityFacts facts = parseEntity(qid, p);
+                        if (facts != null) result.put(qid, facts);
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private WikidataEntityFacts parseEntity(String qid, JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+
+        boolean missing = false;
+        Map<String, String> labels = Map.of();
+        Map<String, String> descriptions = Map.of();
+        Map<String, String> sitelinks = Map.of();
+        Claims claims = new Claims();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "missing" -> missing = true;
+                case "labels" -> labels = readObjectField(p, "value");
+                case "descriptions" -> descriptions = readObjectField(p, "value");
+                case "sitelinks" -> sitelinks = readObjectField(p, "title");
+                case "claims" -> readClaims(p, claims);
+                default -> p.skipChildren();
+            }
+        }
+        if (missing) return null;
+
+        return new WikidataEntityFacts(
+                qid,
+                labels.get("ko"), labels.get("en"),
+                descriptions.get("ko"), descriptions.get("en"),
+                claims.birthDate,
+                claims.occupations, claims.citizenships,
+                claims.image,
+                sitelinks.get("kowiki"), sitelinks.get("enwiki"),
+                claims.awards
+        );
+    }
+
+    /** { "ko": { "value": "..." }, ... } → { ko: "..." } */
+    private Map<String, String> readObjectField(JsonParser p, String valueField) throws IOException {
+        Map<String, String> result = new HashMap<>();
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return result;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String key = p.currentName();
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if (valueField.equals(field) && value == JsonToken.VALUE_STRING) {
+                    result.put(key, p.getText());
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void readClaims(JsonParser p, Claims claims) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String property = p.currentName();
+            p.nextToken();
+            boolean wanted = switch (property) {
+                case P_AWARD, P_BIRTH_DATE, P_OCCUPATION, P_CITIZENSHIP, P_IMAGE -> true;
+                default -> false;
+            };
+            if (!wanted || p.currentToken() != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                continue;
+            }
+
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                Statement s = readStatement(p);
+                if (s.value == null || "deprecated".equals(s.rank)) continue;
+
+                switch (property) {
+                    case P_AWARD -> claims.awards.add(new WikidataEntityFacts.AwardClaim(
+                            s.value, yearOf(s.qualifiers.get(Q_POINT_IN_TIME)), s.qualifiers.get(Q_FOR_WORK)));
+                    case P_BIRTH_DATE -> {
+                        if (claims.birthDate == null) claims.birthDate = dateOf(s.value, s.precision);
+                    }
+                    case P_OCCUPATION -> claims.occupations.add(s.value);
+                    case P_CITIZENSHIP -> claims.citizenships.add(s.value);
+                    case P_IMAGE -> {
+                        if (claims.image == null) claims.image = s.value;
+                    }
+                    default -> { }
+                }
+            }
+        }
+    }
+
+    /** statement: { mainsnak: {...}, qualifiers: { P585: [snak], ... }, rank } */
+    private Statement readStatement(JsonParser p) throws IOException {
+        Statement s = new Statement();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "mainsnak" -> readSnak(p, s, true);
+                case "rank" -> s.rank = p.getText();
+                case "qualifiers" -> readQualifiers(p, s);
+                default -> p.skipChildren();
+            }
+        }
+        return s;
+    }
+
+    private void readQualifiers(JsonParser p, Statement s) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String qualifier = p.currentName();
+            p.nextToken();
+            boolean wanted = Q_POINT_IN_TIME.equals(qualifier) || Q_FOR_WORK.equals(qualifier);
+            if (!wanted || p.currentToken() != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                Statement q = new Statement();
+                readSnak(p, q, false);
+                if (q.value != null) s.qualifiers.putIfAbsent(qualifier, q.value);
+            }
+        }
+    }
+
+    /**
+     * snak: { datavalue: { value: "..." | { id | time, precision } } }
+     * 엔티티 id / 시간 / 문자열 중 하나를 value로 담는다.
+     */
+    private void readSnak(JsonParser p, Statement s, boolean main) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if (!"datavalue".equals(field) || p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String dvField = p.currentName();
+                JsonToken token = p.nextToken();
+                if (!"value".equals(dvField)) {
+                    p.skipChildren();
+                } else if (token == JsonToken.VALUE_STRING) {
+                    s.value = p.getText();
+                } else if (token == JsonToken.START_OBJECT) {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String vField = p.currentName();
+                        p.nextToken();
+                        switch (vField) {
+                            case "id", "time" -> s.value = p.getText();
+                            case "precision" -> {
+                                if (main) s.precision = p.getIntValue();
+                            }
+                            default -> p.skipChildren();
+                        }
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+    }
+
+    /** "+1970-05-12T00:00:00Z" → 1970 */
+    private static Integer yearOf(String time) {
+        if (time == null || time.length() < 5) return null;
+        try {
+            int end = time.indexOf('-', 1);
+            return Integer.parseInt(time.substring(time.startsWith("+") ? 1 : 0, end > 0 ? end : time.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** 일 단위 정밀도(11)일 때만 날짜로 사용 */
+    private static LocalDate dateOf(String time, Integer precision) {
+        if (time == null || precision == null || precision < 11) return null;
+        try {
+            String t = time.startsWith("+") ? time.substring(1) : time;
+            return LocalDate.parse(t.substring(0, 10));
+        } catch (DateTimeException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static class Claims {
+        LocalDate birthDate;
+        String image;
+        final List<String> occupations = new ArrayList<>();
+        final List<String> citizenships = new ArrayList<>();
+        final List<WikidataEntityFacts.AwardClaim> awards = new ArrayList<>();
+    }
+
+    private static class Statement {
+        String value;
+        Integer precision;
+        String rank;
+        final Map<String, String> qualifiers = new HashMap<>();
+    }
+}
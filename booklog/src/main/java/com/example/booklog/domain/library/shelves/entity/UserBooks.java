@@ -17,7 +17,9 @@ import java.time.LocalDate;
         indexes = {
                 @Index(name = "idx_user_books_user", columnList = "user_id"),
                 @Index(name = "idx_user_books_status", columnList = "status"),
-                @Index(name = "idx_user_books_book", columnList = "book_id")
+                @Index(name = "idx_user_books_book", columnList = "book_id"),
+                // 재동기화 우선순위: 최근 활동(updated_at 범위) 도서 집계, book_id까지 인덱스에서 읽음
+                @Index(name = "idx_user_books_updated_book", columnList = "updated_at, book_id")
         }
 )
 @Getter
@@ -1,18 +1,24 @@
 package com.example.booklog.domain.library.shelves.service;
 
 import com.example.booklog.domain.library.books.entity.AuthorRole;
+import com.example.booklog.domain.library.books.entity.BookDetails;
 import com.example.booklog.domain.library.books.entity.Books;
+import com.example.booklog.domain.library.books.repository.BookDetailsRepository;
 import com.example.booklog.domain.library.books.repository.BooksRepository;
+import com.example.booklog.domain.library.books.service.BookDetailsBackfillService;
 import com.example.booklog.domain.library.shelves.dto.*;
 import com.example.booklog.domain.library.shelves.entity.*;
 import com.example.booklog.domain.library.shelves.repository.BookshelfItemsRepository;
 import com.example.booklog.domain.library.shelves.repository.BookshelvesRepository;
 import com.example.booklog.domain.library.shelves.repository.UserBooksRepository;
+import com.example.booklog.domain.ranking.event.ActivityType;
+import com.example.booklog.domain.ranking.event.BookActivityEvent;
 import com.example.booklog.domain.users.entity.Users;
 import com.example.booklog.domain.users.repository.UsersRepository;
 import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
 import com.example.booklog.global.common.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,9 +32,12 @@ public class UserBooksService {
 
     private final UserBooksRepository userBooksRepository;
     private final BooksRepository booksRepository;
+    private final BookDetailsRepository bookDetailsRepository;
+    private final BookDetailsBackfillService bookDetailsBackfillService;
     private final UsersRepository usersRepository;
     private final BookshelvesRepository bookshelvesRepository;
     private final BookshelfItemsRepository bookshelfItemsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 1) 도서 저장 /api/v1/user-books
      *  - 없으면: user_books 생성
@@ -61,6 +70,11 @@ public class UserBooksService {
                         created.updateProgress(created.getCurrentPage(), 100);
                     }
 
+                    // 랭킹 반영: 새로 저장한 경우만 (저장 시 상태 기준)
+                    ActivityType activity = activityOf(status);
+                    eventPublisher.publishEvent(BookActivityEvent.of(book.getId(),
+                            activity != null ? activity : ActivityType.SHELF_ADD));
+
                     return userBooksRepository.save(created);
                 });
 
@@ -251,7 +265,8 @@ public class UserBooksService {
 
                 b.getId(),
                 b.getTitle(),
-                b.getDescription(),
+                bookDetailsRepository.findById(b.getId()).map(BookDetails::getDescription)
+                        .orElseGet(() -> bookDetailsBackfillService.legacyDescription(b.getId())),
                 b.getThumbnailUrl(),
                 b.getPublisherName(),
                 b.getPublishedDate(),
@@ -267,8 +282,15 @@ public class UserBooksService {
 
         // 1) 상태 변경
         if (req.status() != null) {
+            ReadingStatus before = ub.getStatus();
             ub.updateStatus(req.status());
 
+            // 랭킹 반영: 읽는 중/완독으로 실제로 바뀐 경우만
+            ActivityType activity = activityOf(req.status());
+            if (activity != null && before != req.status()) {
+                eventPublisher.publishEvent(BookActivityEvent.of(ub.getBook().getId(), activity));
+            }
+
             if (req.status() == ReadingStatus.READING) {
                 ub.setStartDateIfNull(LocalDate.now());
                 ub.setEndDate(null); // 정책: 다시 읽기 시작하면 end_date 초기화
@@ -302,6 +324,13 @@ public class UserBooksService {
         }
     }
 
+    /** 랭킹에 반영하는 상태 변경 (그 외 상태는 null) */
+    private ActivityType activityOf(ReadingStatus status) {
+        if (status == ReadingStatus.READING) return ActivityType.READING_STARTED;
+        if (status == ReadingStatus.COMPLETED) return ActivityType.READING_COMPLETED;
+        return null;
+    }
+
     /** 총 페이지 입력 */
     @Transactional
     public void saveTotalPage(Long userId, Long userBookId, TotalPageSaveRequest req) {
@@ -0,0 +1,23 @@
+package com.example.booklog.domain.ranking.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 랭킹에 반영되는 사용자 활동 종류와 가중치
+ * 가중치는 "그 시점 기준" 점수이며, 이후 시간이 지날수록 반감기에 따라 감쇠된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ActivityType {
+
+    SHELF_ADD(1.0),          // 내 서재에 저장 (읽고 싶은)
+    READING_STARTED(2.0),    // 읽는 중으로 변경
+    READING_COMPLETED(3.0),  // 완독
+    POST_PUBLISHED(4.0),     // 북로그 발행
+    BOOKMARK_ADDED(1.5),     // 북로그 북마크
+    BOOKMARK_REMOVED(-1.5),  // 북마크 해제 - 북마크 시각 기준으로 보내 BOOKMARK_ADDED 가산분만큼 정확히 상쇄
+    POST_VIEWED(0.2);        // 북로그 상세 조회 (사용자/글별 dedupe 구간 내 첫 조회만)
+
+    private final double weight;
+}
@@ -0,0 +1,34 @@
+package com.example.booklog.domain.ranking.event;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 도서 랭킹에 반영할 활동 이벤트
+ * 커밋된 트랜잭션에서만 반영된다. (RankingService 참고)
+ *
+ * @param bookId     대상 도서
+ * @param type       활동 종류 (가중치 결정)
+ * @param tagIds     활동이 가진 태그 (북로그 태그). 태그별 랭킹에 함께 반영, 없으면 빈 리스트
+ * @param occurredAt 발생 시각
+ */
+public record BookActivityEvent(
+        Long bookId,
+        ActivityType type,
+        List<Long> tagIds,
+        Instant occurredAt
+) {
+
+    public static BookActivityEvent of(Long bookId, ActivityType type) {
+        return new BookActivityEvent(bookId, type, List.of(), Instant.now());
+    }
+
+    public static BookActivityEvent of(Long bookId, ActivityType type, List<Long> tagIds) {
+        return of(bookId, type, tagIds, Instant.now());
+    }
+
+    /** 발생 시각 지정 (북마크 해제: 북마크했던 시각으로 보내야 가산했던 점수와 정확히 상쇄됨) */
+    public static BookActivityEvent of(Long bookId, ActivityType type, List<Long> tagIds, Instant occurredAt) {
+        return new BookActivityEvent(bookId, type, tagIds == null ? List.of() : List.copyOf(tagIds), occurredAt);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.booklog.domain.ranking.service;
+
+import com.example.booklog.domain.ranking.event.BookActivityEvent;
+import com.example.booklog.domain.ranking.store.RankingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 도서 랭킹
+ *
+ * [동작 방식]
+ * 1. 서재 저장/상태 변경, 북로그 발행/북마크/조회 시 BookActivityEvent 발행
+ * 2. 커밋 후 전체 보드 + 활동 태그별 보드에 시간 감쇠 점수 가산 (조회 시 GROUP BY 없음)
+ * 3. 홈 화면은 보드의 상위 N개를 그대로 사용
+ *
+ * 랭킹 반영은 부가 기능이므로 실패해도 원래 요청에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+public class RankingService {
+
+    private static final String GLOBAL_BOARD = "books";
+    private static final String TAG_BOARD_PREFIX = "tag:";
+
+    private final RankingStore rankingStore;
+    private final int maxBoardSize;
+
+    public RankingService(RankingStore rankingStore,
+                          @Value("${ranking.max-board-size:500}") int maxBoardSize) {
+        this.rankingStore = rankingStore;
+        this.maxBoardSize = maxBoardSize;
+    }
+
+    /** 활동 반영 (커밋된 경우에만) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(BookActivityEvent event) {
+        if (event.bookId() == null || event.type() == null) return;
+
+        List<String> boards = new ArrayList<>(1 + event.tagIds().size());
+        boards.add(GLOBAL_BOARD);
+        event.tagIds().stream().distinct().forEach(tagId -> boards.add(TAG_BOARD_PREFIX + tagId));
+
+        Instant occurredAt = (event.occurredAt() != null) ? event.occurredAt() : Instant.now();
+        try {
+            rankingStore.add(boards, event.bookId(), event.type().getWeight(), occurredAt.getEpochSecond());
+        } catch (Exception e) {
+            log.warn("랭킹 반영 실패 (무시): bookId={}, type={}, error={}",
+                    event.bookId(), event.type(), e.getMessage());
+        }
+    }
+
+    /** 전체 인기 도서 상위 N개 bookId */
+    public List<Long> topBooks(int limit) {
+        return top(GLOBAL_BOARD, limit);
+    }
+
+    /** 태그별 인기 도서 상위 N개 bookId */
+    public List<Long> topBooksByTag(Long tagId, int limit) {
+        return top(TAG_BOARD_PREFIX + tagId, limit);
+    }
+
+    private List<Long> top(String board, int limit) {
+        try {
+            return rankingStore.top(board, limit);
+        } catch (Exception e) {
+            log.warn("랭킹 조회 실패 (빈 목록 반환): board={}, error={}", board, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /** 보드 크기 정리 + 감쇠 기준 시각 재설정 */
+    @Scheduled(cron = "${ranking.maintenance-cron:0 30 4 * * *}")
+    public void maintain() {
+        try {
+            rankingStore.maintain(Instant.now().getEpochSecond(), maxBoardSize);
+        } catch (Exception e) {
+            log.warn("랭킹 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.booklog.domain.ranking.store;
+
+/**
+ * Forward decay 계산
+ *
+ * 점수 = Σ weight * e^(λ * (t - landmark))
+ * - 이벤트 발생 시점 기준으로 한 번만 가산하므로 기존 점수를 다시 계산할 필요가 없다.
+ * - 모든 항목이 같은 비율로 감쇠한 것과 순위가 동일하다. (λ = ln2 / 반감기)
+ * - 지수가 계속 커지므로 rebaseExponent를 넘으면 landmark를 현재로 옮기고 전체 점수를 같은 비율로 축소한다.
+ */
+public record ForwardDecay(double lambdaPerSecond, double rebaseExponent) {
+
+    public static ForwardDecay ofHalfLifeHours(double halfLifeHours, double rebaseExponent) {
+        return new ForwardDecay(Math.log(2) / (halfLifeHours * 3600.0), rebaseExponent);
+    }
+
+    public double exponent(long landmarkEpochSecond, long nowEpochSecond) {
+        return lambdaPerSecond * (nowEpochSecond - landmarkEpochSecond);
+    }
+
+    public double boost(double weight, long landmarkEpochSecond, long nowEpochSecond) {
+        return weight * Math.exp(exponent(landmarkEpochSecond, nowEpochSecond));
+    }
+
+    public boolean needsRebase(long landmarkEpochSecond, long nowEpochSecond) {
+        return exponent(landmarkEpochSecond, nowEpochSecond) >= rebaseExponent;
+    }
+}
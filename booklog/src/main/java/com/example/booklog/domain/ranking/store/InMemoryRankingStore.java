@@ -0,0 +1,114 @@
+package com.example.booklog.domain.ranking.store;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 랭킹 저장소
+ * 보드마다 (member → score) 맵과 점수순 TreeSet을 함께 유지하여 상위 N 조회를 정렬 없이 처리한다.
+ *
+ * 재기동 시 초기화되므로 Redis를 쓸 수 없는 환경에서만 사용한다.
+ */
+public class InMemoryRankingStore implements RankingStore {
+
+    private final ForwardDecay decay;
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    // add는 read lock(보드 단위 동기화), landmark 재설정은 write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long landmarkEpochSecond;
+
+    public InMemoryRankingStore(ForwardDecay decay, long landmarkEpochSecond) {
+        this.decay = decay;
+        this.landmarkEpochSecond = landmarkEpochSecond;
+    }
+
+    @Override
+    public void add(List<String> boardNames, long member, double weight, long nowEpochSecond) {
+        lock.readLock().lock();
+        try {
+            double delta = decay.boost(weight, landmarkEpochSecond, nowEpochSecond);
+            for (String name : boardNames) {
+                boards.computeIfAbsent(name, k -> new Board()).increment(member, delta);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> top(String board, int limit) {
+        Board b = boards.get(board);
+        return (b == null) ? List.of() : b.top(limit);
+    }
+
+    @Override
+    public void maintain(long nowEpochSecond, int maxBoardSize) {
+        lock.writeLock().lock();
+        try {
+            if (decay.needsRebase(landmarkEpochSecond, nowEpochSecond)) {
+                double factor = Math.exp(-decay.exponent(landmarkEpochSecond, nowEpochSecond));
+                boards.values().forEach(b -> b.rescale(factor));
+                landmarkEpochSecond = nowEpochSecond;
+            }
+            boards.values().forEach(b -> b.trim(maxBoardSize));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Entry(long member, double score) {
+    }
+
+    private static final Comparator<Entry> BY_SCORE_DESC = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::member);
+
+    private static final class Board {
+
+        private final Map<Long, Entry> byMember = new HashMap<>();
+        private final TreeSet<Entry> ordered = new TreeSet<>(BY_SCORE_DESC);
+
+        synchronized void increment(long member, double delta) {
+            Entry old = byMember.get(member);
+            double score = delta;
+            if (old != null) {
+                ordered.remove(old);
+                score += old.score();
+            }
+            Entry updated = new Entry(member, score);
+            byMember.put(member, updated);
+            ordered.add(updated);
+        }
+
+        synchronized List<Long> top(int limit) {
+            List<Long> result = new ArrayList<>(Math.min(limit, ordered.size()));
+            for (Entry e : ordered) {
+                if (result.size() >= limit || e.score() <= 0) break;
+                result.add(e.member());
+            }
+            return result;
+        }
+
+        synchronized void rescale(double factor) {
+            List<Entry> rescaled = ordered.stream()
+                    .map(e -> new Entry(e.member(), e.score() * factor))
+                    .toList();
+            ordered.clear();
+            byMember.clear();
+            for (Entry e : rescaled) {
+                ordered.add(e);
+                byMember.put(e.member(), e);
+            }
+        }
+
+        synchronized void trim(int maxSize) {
+            while (ordered.size() > maxSize) {
+                Entry last = ordered.pollLast();
+                byMember.remove(last.member());
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.booklog.domain.ranking.store;
+
+import java.util.List;
+
+/**
+ * 랭킹 보드 저장소 (정렬 구조 유지, 조회 시 집계 없음)
+ *
+ * 구현체
+ * - RedisRankingStore: Redis ZSET (여러 인스턴스가 같은 랭킹 공유)
+ * - InMemoryRankingStore: 단일 인스턴스/Redis 미사용 환경
+ */
+public interface RankingStore {
+
+    /**
+     * 여러 보드에 같은 활동을 가산 (forward decay 적용)
+     */
+    void add(List<String> boards, long member, double weight, long nowEpochSecond);
+
+    /**
+     * 점수 높은 순 상위 N개 member
+     */
+    List<Long> top(String board, int limit);
+
+    /**
+     * 유지보수: 필요 시 landmark 재설정(전체 점수 축소) + 보드별 상위 maxBoardSize개만 유지
+     */
+    void maintain(long nowEpochSecond, int maxBoardSize);
+}
@@ -0,0 +1,110 @@
+package com.example.booklog.domain.ranking.store;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis ZSET 기반 랭킹 저장소
+ *
+ * - 보드: ranking:board:{name} (ZSET, member = bookId)
+ * - landmark: ranking:landmark (forward decay 기준 시각, epoch seconds)
+ * - 보드 목록: ranking:boards (SET, landmark 재설정/정리 대상)
+ *
+ * 가산과 landmark 재설정은 Lua 스크립트로 원자적으로 처리한다.
+ * 인스턴스마다 landmark를 따로 들고 있으면 재설정 직후 다른 인스턴스가 옛 기준으로 가산해 점수가 튈 수 있기 때문.
+ */
+public class RedisRankingStore implements RankingStore {
+
+    private static final String BOARD_PREFIX = "ranking:board:";
+    private static final String LANDMARK_KEY = "ranking:landmark";
+    private static final String BOARDS_KEY = "ranking:boards";
+
+    // KEYS[1]=landmark, KEYS[2]=보드 목록, KEYS[3..]=보드 / ARGV: weight, member, now, lambda
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local landmark = tonumber(redis.call('GET', KEYS[1]))
+            if not landmark then
+              landmark = tonumber(ARGV[3])
+              redis.call('SET', KEYS[1], ARGV[3])
+            end
+            local delta = tonumber(ARGV[1]) * math.exp(tonumber(ARGV[4]) * (tonumber(ARGV[3]) - landmark))
+            for i = 3, #KEYS do
+              redis.call('ZINCRBY', KEYS[i], delta, ARGV[2])
+              redis.call('SADD', KEYS[2], KEYS[i])
+            end
+            return #KEYS - 2
+            """, Long.class);
+
+    // KEYS[1]=landmark, KEYS[2]=보드 목록 / ARGV: now, lambda, rebaseExponent
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local landmark = tonumber(redis.call('GET', KEYS[1]))
+            if not landmark then return 0 end
+            local exponent = tonumber(ARGV[2]) * (tonumber(ARGV[1]) - landmark)
+            if exponent < tonumber(ARGV[3]) then return 0 end
+            local factor = math.exp(-exponent)
+            local boards = redis.call('SMEMBERS', KEYS[2])
+            for _, board in ipairs(boards) do
+              redis.call('ZUNIONSTORE', board, 1, board, 'WEIGHTS', factor)
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return #boards
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ForwardDecay decay;
+
+    public RedisRankingStore(StringRedisTemplate redisTemplate, ForwardDecay decay) {
+        this.redisTemplate = redisTemplate;
+        this.decay = decay;
+    }
+
+    @Override
+    public void add(List<String> boards, long member, double weight, long nowEpochSecond) {
+        if (boards.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(boards.size() + 2);
+        keys.add(LANDMARK_KEY);
+        keys.add(BOARDS_KEY);
+        boards.forEach(b -> keys.add(BOARD_PREFIX + b));
+
+        redisTemplate.execute(ADD_SCRIPT, keys,
+                Double.toString(weight),
+                Long.toString(member),
+                Long.toString(nowEpochSecond),
+                Double.toString(decay.lambdaPerSecond()));
+    }
+
+    @Override
+    public List<Long> top(String board, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(BOARD_PREFIX + board, 0, limit - 1);
+        if (tuples == null) return List.of();
+
+        List<Long> result = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            if (t.getValue() == null || t.getScore() == null || t.getScore() <= 0) continue;
+            result.add(Long.valueOf(t.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public void maintain(long nowEpochSecond, int maxBoardSize) {
+        redisTemplate.execute(REBASE_SCRIPT, List.of(LANDMARK_KEY, BOARDS_KEY),
+                Long.toString(nowEpochSecond),
+                Double.toString(decay.lambdaPerSecond()),
+                Double.toString(decay.rebaseExponent()));
+
+        Set<String> boardKeys = redisTemplate.opsForSet().members(BOARDS_KEY);
+        if (boardKeys == null) return;
+        for (String key : boardKeys) {
+            // 점수 낮은 쪽(rank 0부터)을 지우고 상위 maxBoardSize개만 남김
+            redisTemplate.opsForZSet().removeRange(key, 0, -(maxBoardSize + 1L));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.booklog.domain.search.controller;
 
 import com.example.booklog.domain.library.books.dto.BookSearchResponse;
+import com.example.booklog.domain.library.books.dto.ImportStatusResponse;
+import com.example.booklog.domain.library.books.service.BookImportCoordinator;
 import com.example.booklog.domain.search.dto.*;
 import com.example.booklog.domain.search.service.AuthorSearchService;
 import com.example.booklog.domain.search.service.BookSearchService;
@@ -21,6 +23,7 @@ import java.util.concurrent.TimeUnit;
  * - 통합 검색: /api/v1/search (GET)
  * - 도서 검색: /api/v1/search/books
  * - 작가 검색: /api/v1/search/authors
+ * - 백그라운드 임포트 상태: /api/v1/search/import-status (GET)
  * - 검색어 저장: /api/v1/search/keywords (POST)
  * - 최근 검색어 조회: /api/v1/search/recent (GET)
  * - 추천 검색어 조회: /api/v1/search/recommendations (GET)
@@ -34,6 +37,7 @@ public class SearchController {
     private final BookSearchService bookSearchService;
     private final AuthorSearchService authorSearchService;
     private final SearchKeywordService searchKeywordService;
+    private final BookImportCoordinator bookImportCoordinator;
 
     /**
      * 도서 검색
@@ -62,6 +66,20 @@ public class SearchController {
         return bookSearchService.searchBooks(query, page, size, sortType);
     }
 
+    /**
+     * 백그라운드 임포트 상태 조회
+     * GET /api/v1/search/import-status?query={검색어}
+     *
+     * 검색 응답이 enriching=true일 때 폴링하고, DONE이 되면 같은 검색을 다시 요청한다.
+     *
+     * @param query 검색어
+     * @return 임포트 상태 (NONE/PENDING/RUNNING/DONE/FAILED)
+     */
+    @GetMapping("/import-status")
+    public ImportStatusResponse getImportStatus(@RequestParam String query) {
+        return bookImportCoordinator.getStatus(query);
+    }
+
     /**
      * 작가 검색
      * GET /api/v1/search/authors?query={검색어}&page={페이지}&size={크기}
@@ -10,14 +10,24 @@ import java.util.List;
  * @param isEnd 마지막 페이지 여부
  * @param totalCount 총 검색된 작가 수 (UI에서 "총 n명" 표시용)
  * @param items 작가 검색 결과 리스트
+ * @param enriching 카카오 임포트가 백그라운드에서 진행 중인지
  */
 public record AuthorSearchResponse(
         int page,
         int size,
         boolean isEnd,
         int totalCount,
-        List<AuthorSearchItemResponse> items
+        List<AuthorSearchItemResponse> items,
+        boolean enriching
 ) {
+    public AuthorSearchResponse(int page, int size, boolean isEnd, int totalCount, List<AuthorSearchItemResponse> items) {
+        this(page, size, isEnd, totalCount, items, false);
+    }
+
+    public AuthorSearchResponse withEnriching(boolean enriching) {
+        return new AuthorSearchResponse(page, size, isEnd, totalCount, items, enriching);
+    }
+
     /**
      * 페이지네이션 정보와 함께 응답 생성
      *
@@ -11,12 +11,14 @@ import com.example.booklog.global.common.apiPayload.exception.GeneralException;
  * - OLDEST: 오래된 순 (출판일 오름차순)
  * - TITLE: 제목 순 (가나다순)
  * - AUTHOR: 저자 순 (첫 번째 저자 기준 가나다순)
+ * - RELEVANCE: 정확도 순 (FULLTEXT 점수, FULLTEXT 미사용 시 최신순)
  */
 public enum BookSortType {
     LATEST("latest", "최신순"),
     OLDEST("oldest", "오래된순"),
     TITLE("title", "제목순"),
-    AUTHOR("author", "저자순");
+    AUTHOR("author", "저자순"),
+    RELEVANCE("relevance", "정확도순");
 
     private final String value;
     private final String description;
@@ -37,7 +39,7 @@ public enum BookSortType {
     /**
      * String 값으로부터 BookSortType 조회
      *
-     * @param value 정렬 기준 문자열 (latest, oldest, title, author)
+     * @param value 정렬 기준 문자열 (latest, oldest, title, author, relevance)
      * @return BookSortType
      * @throws GeneralException 검색어가 유효하지 않은 경우
      */
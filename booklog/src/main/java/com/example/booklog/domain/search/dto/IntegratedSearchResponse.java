@@ -16,12 +16,14 @@ import com.example.booklog.domain.library.books.dto.BookSearchResponse;
  * @param sort 정렬 기준 (latest, popular 등)
  * @param authors 작가 검색 결과
  * @param books 도서 검색 결과
+ * @param enriching 작가/도서 중 하나라도 백그라운드 임포트가 진행 중인지
  */
 public record IntegratedSearchResponse(
         String query,
         String sort,
         AuthorSearchResult authors,
-        BookSearchResult books
+        BookSearchResult books,
+        boolean enriching
 ) {
     /**
      * 작가/도서 검색 결과로부터 통합 응답 생성
@@ -44,7 +46,8 @@ public record IntegratedSearchResponse(
         // 도서 검색 결과 변환
         BookSearchResult bookResult = BookSearchResult.from(bookResponse);
 
-        return new IntegratedSearchResponse(query, sort, authorResult, bookResult);
+        return new IntegratedSearchResponse(query, sort, authorResult, bookResult,
+                authorResponse.enriching() || bookResponse.enriching());
     }
 }
 
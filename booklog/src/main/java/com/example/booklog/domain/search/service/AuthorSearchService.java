@@ -4,7 +4,7 @@ import com.example.booklog.domain.library.books.entity.Authors;
 import com.example.booklog.domain.library.books.entity.Books;
 import com.example.booklog.domain.library.books.repository.AuthorsRepository;
 import com.example.booklog.domain.library.books.repository.BooksRepository;
-import com.example.booklog.domain.library.books.service.BookImportService;
+import com.example.booklog.domain.library.books.service.BookImportCoordinator;
 import com.example.booklog.domain.search.dto.AuthorBookResponse;
 import com.example.booklog.domain.search.dto.AuthorSearchItemResponse;
 import com.example.booklog.domain.search.dto.AuthorSearchResponse;
@@ -36,7 +36,8 @@ public class AuthorSearchService {
 
     private final AuthorsRepository authorsRepository;
     private final BooksRepository booksRepository;
-    private final BookImportService bookImportService;
+    private final BookImportCoordinator bookImportCoordinator;
+    private final FullTextSearchSupport fullTextSearch;
 
     /**
      * 작가 검색
@@ -61,15 +62,24 @@ public class AuthorSearchService {
 
         // 1단계: 작가 검색 (페이징)
         Pageable pageable = PageRequest.of(page - 1, size); // 0-based로 변환
-        Page<Authors> authorsPage = authorsRepository.searchByName(query, pageable);
+        Page<Authors> authorsPage = searchByName(query, pageable);
 
         // 작가가 없거나 도서 데이터가 없으면 카카오 API에서 임포트
-        if (authorsPage.isEmpty() || needsImport(authorsPage.getContent())) {
+        //   비동기 모드: 임포트는 백그라운드로 넘기고 현재 DB 결과를 enriching으로 반환
+        boolean enriching = false;
+        if (bookImportCoordinator.asyncEnabled()) {
+            if (authorsPage.isEmpty() || needsImport(authorsPage.getContent())) {
+                enriching = bookImportCoordinator.submitAsync(query);
+            }
+            if (authorsPage.isEmpty()) {
+                return AuthorSearchResponse.of(List.of(), page, size, 0L).withEnriching(enriching);
+            }
+        } else if (authorsPage.isEmpty() || needsImport(authorsPage.getContent())) {
             log.info("작가 '{}' 도서 데이터 임포트 시작", query);
-            bookImportService.searchAndUpsert(query, 1, 10);
+            bookImportCoordinator.searchAndUpsert(query, 1, 10);
 
             // 임포트 후 재조회
-            authorsPage = authorsRepository.searchByName(query, pageable);
+            authorsPage = searchByName(query, pageable);
 
             if (authorsPage.isEmpty()) {
                 log.info("임포트 후에도 검색 결과 없음 - query: {}", query);
@@ -102,7 +112,18 @@ public class AuthorSearchService {
                 .toList();
 
         log.info("작가 검색 완료 - 총 {}명 중 {}명 조회", totalCount, items.size());
-        return AuthorSearchResponse.of(items, page, size, totalCount);
+        return AuthorSearchResponse.of(items, page, size, totalCount).withEnriching(enriching);
+    }
+
+    /**
+     * 작가명 검색 (FULLTEXT 사용 가능하면 정확도순, 아니면 LIKE)
+     */
+    private Page<Authors> searchByName(String query, Pageable pageable) {
+        String keyword = query.trim();
+        if (fullTextSearch.usable(keyword)) {
+            return authorsRepository.searchByNameFullText(fullTextSearch.toBooleanQuery(keyword), pageable);
+        }
+        return authorsRepository.searchByName(query, pageable);
     }
 
     /**
@@ -4,7 +4,7 @@ import com.example.booklog.domain.library.books.dto.BookSearchItemResponse;
 import com.example.booklog.domain.library.books.dto.BookSearchResponse;
 import com.example.booklog.domain.library.books.entity.Books;
 import com.example.booklog.domain.library.books.repository.BooksRepository;
-import com.example.booklog.domain.library.books.service.BookImportService;
+import com.example.booklog.domain.library.books.service.BookImportCoordinator;
 import com.example.booklog.domain.search.dto.BookSortType;
 import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
 import com.example.booklog.global.common.apiPayload.exception.GeneralException;
@@ -14,10 +14,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * 도서 검색 서비스
@@ -29,15 +33,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookSearchService {
 
-    private final BookImportService bookImportService;
+    private final BookImportCoordinator bookImportCoordinator;
     private final BooksRepository booksRepository;
+    private final FullTextSearchSupport fullTextSearch;
 
     /**
      * 도서 검색 (정렬 기능 지원)
      *
      * [검색 전략]
-     * 1. DB에서 검색 시도 (제목 LIKE 검색)
-     * 2. 결과가 없으면 카카오 API로 임포트
+     * 1. DB에서 검색 시도 (FULLTEXT 또는 제목 LIKE 검색, id 페이지 조회 → 페이지 도서만 조회)
+     * 2. 결과가 없으면 카카오 API로 임포트 (비동기 모드: 백그라운드 임포트 후 enriching=true로 즉시 반환)
      * 3. DB에서 재검색 (정렬 적용)
      *
      * [정렬 옵션]
@@ -45,6 +50,7 @@ public class BookSearchService {
      * - oldest: 오래된순 (출판일 오름차순)
      * - title: 제목순 (가나다순)
      * - author: 저자순 (첫 번째 저자 기준)
+     * - relevance: 정확도순 (FULLTEXT 사용 시)
      *
      * @param query 검색어
      * @param page 페이지 번호 (1부터 시작)
@@ -66,20 +72,25 @@ public class BookSearchService {
         // 입력 검증 (검색어 길이, 페이지 검증)
         validateSearchInput(query, page, size);
 
-        // 정렬 기준 생성
-        Sort sort = createSort(sortType);
-        Pageable pageable = PageRequest.of(page - 1, size, sort);
+        String keyword = query.trim();
 
-        // 1. DB에서 검색
-        Page<Books> booksPage = booksRepository.searchByTitle(query.trim(), pageable);
+        // 1. DB에서 검색 (id 페이지 → 해당 페이지 도서만 조회)
+        Page<Books> booksPage = searchPage(keyword, page, size, sortType);
 
         // 2. 결과가 없으면 카카오 API로 임포트
+        //    비동기 모드: 임포트는 백그라운드로 넘기고 현재 DB 결과(빈 결과)를 enriching으로 반환
+        if (booksPage.isEmpty() && bookImportCoordinator.asyncEnabled()) {
+            boolean enriching = bookImportCoordinator.submitAsync(query);
+            log.info("DB에 결과 없음. 백그라운드 임포트 {} - query: {}", enriching ? "요청" : "생략", query);
+            return new BookSearchResponse(page, size, true, 0, List.of(), enriching);
+        }
+
         if (booksPage.isEmpty()) {
             log.info("DB에 결과 없음. 카카오 API로 임포트 시작 - query: {}", query);
-            bookImportService.searchAndUpsert(query, 1, 10); // 카카오 API는 최대 10개만 가져옴
+            bookImportCoordinator.searchAndUpsert(query, 1, 10); // 카카오 API는 최대 10개만 가져옴
 
             // 3. 임포트 후 재검색
-            booksPage = booksRepository.searchByTitle(query.trim(), pageable);
+            booksPage = searchPage(keyword, page, size, sortType);
 
             if (booksPage.isEmpty()) {
                 log.info("임포트 후에도 검색 결과 없음 - query: {}", query);
@@ -108,6 +119,58 @@ public class BookSearchService {
         return searchBooks(query, page, size, BookSortType.LATEST);
     }
 
+    /**
+     * 2단계 페이지 검색
+     *
+     * 1) 정렬/페이징을 DB에서 적용해 해당 페이지의 bookId만 조회 (LIMIT/OFFSET)
+     * 2) 그 bookId만 저자와 함께 fetch join 조회 후 1)의 순서로 정렬
+     * 3) 전체 건수는 별도 count 쿼리 - 마지막 페이지처럼 계산 가능한 경우는 생략
+     *
+     * 카탈로그가 커져도 한 번에 메모리에 올라오는 도서는 페이지 크기만큼으로 고정된다.
+     */
+    private Page<Books> searchPage(String keyword, int page, int size, BookSortType sortType) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        // FULLTEXT(ngram) 사용 가능하면 MATCH ... AGAINST, 아니면 LIKE
+        if (fullTextSearch.usable(keyword)) {
+            String q = fullTextSearch.toBooleanQuery(keyword);
+            List<Long> ids = switch (sortType) {
+                case RELEVANCE -> booksRepository.searchIdsByTitleFullTextOrderByRelevance(q, pageable);
+                case AUTHOR -> booksRepository.searchIdsByTitleFullTextOrderByAuthor(q, pageable);
+                case OLDEST -> booksRepository.searchIdsByTitleFullTextOrderByOldest(q, pageable);
+                default -> booksRepository.searchIdsByTitleFullText(q,
+                        PageRequest.of(page - 1, size, createNativeSort(sortType)));
+            };
+            return PageableExecutionUtils.getPage(hydrate(ids), pageable,
+                    () -> booksRepository.countByTitleFullText(q));
+        }
+
+        List<Long> ids;
+        if (sortType == BookSortType.AUTHOR) {
+            ids = booksRepository.searchIdsByTitleOrderByAuthor(keyword, pageable);
+        } else {
+            ids = booksRepository.searchIdsByTitle(keyword, PageRequest.of(page - 1, size, createSort(sortType)));
+        }
+
+        return PageableExecutionUtils.getPage(hydrate(ids), pageable,
+                () -> booksRepository.countByTitleKeyword(keyword));
+    }
+
+    /**
+     * bookId 목록 → 저자 포함 Books (입력 순서 유지)
+     */
+    private List<Books> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, Books> byId = booksRepository.findAllWithAuthorsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Books::getId, b -> b));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 정렬 기준에 따른 Sort 객체 생성
      *
@@ -116,7 +179,7 @@ public class BookSearchService {
      */
     private Sort createSort(BookSortType sortType) {
         return switch (sortType) {
-            case LATEST -> Sort.by(
+            case LATEST, RELEVANCE -> Sort.by( // RELEVANCE는 FULLTEXT에서만 의미 있음 → LIKE 검색에서는 최신순
                 Sort.Order.desc("publishedDate").nullsLast(),
                 Sort.Order.desc("id")
             );
@@ -127,10 +190,19 @@ public class BookSearchService {
             case TITLE -> Sort.by(
                 Sort.Order.asc("title")
             );
-            case AUTHOR -> Sort.by(
-                Sort.Order.asc("bookAuthors.author.name"),
-                Sort.Order.asc("id")
-            );
+            case AUTHOR -> Sort.unsorted(); // 쿼리에서 첫 번째 저자 기준으로 정렬 (searchIdsByTitleOrderByAuthor)
+        };
+    }
+
+    /**
+     * FULLTEXT(native) 검색용 정렬 (컬럼명 기준)
+     * MySQL은 DESC에서 NULL이 뒤로 가므로 최신순은 LIKE 검색과 같은 순서
+     * (오래된순은 NULL을 뒤로 보내야 해서 searchIdsByTitleFullTextOrderByOldest 사용)
+     */
+    private Sort createNativeSort(BookSortType sortType) {
+        return switch (sortType) {
+            case TITLE -> Sort.by(Sort.Order.asc("title"));
+            default -> Sort.by(Sort.Order.desc("published_at"), Sort.Order.desc("book_id"));
         };
     }
 
@@ -0,0 +1,140 @@
+package com.example.booklog.domain.search.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 지원
+ *
+ * [구성]
+ * - 기동 시 books.title, authors.name의 ngram FULLTEXT 인덱스 확인
+ *   없으면 create-indexes=true일 때만 백그라운드에서 생성 (큰 테이블은 재구성이 오래 걸려 기본은 끔)
+ *   끔 상태에서는 필요한 DDL을 로그로 남기고 LIKE 검색 유지 → 운영에서는 점검 시간에 직접 실행
+ * - 검색어를 BOOLEAN MODE 쿼리로 변환 (단어별 필수 구문: +"단어")
+ * - 인덱스 생성에 실패했거나 검색어가 ngram 토큰보다 짧으면 기존 LIKE 검색 사용
+ *
+ * 인덱스는 InnoDB가 INSERT/UPDATE 시 함께 갱신하므로 임포트 쪽에서 따로 동기화할 필요 없다.
+ */
+@Slf4j
+@Component
+public class FullTextSearchSupport {
+
+    // MySQL ngram_token_size 기본값. 이보다 짧은 단어는 FULLTEXT로 찾을 수 없음
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final List<FullTextIndex> INDEXES = List.of(
+            new FullTextIndex("books", "ft_books_title", "title"),
+            new FullTextIndex("authors", "ft_authors_name", "name")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor executor;
+    private final boolean enabled;
+    private final boolean createIndexes;
+    private volatile boolean available;
+
+    public FullTextSearchSupport(JdbcTemplate jdbcTemplate,
+                                 @Qualifier("ingestionExecutor") TaskExecutor executor,
+                                 @Value("${search.fulltext.enabled:false}") boolean enabled,
+                                 @Value("${search.fulltext.create-indexes:false}") boolean createIndexes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.createIndexes = createIndexes;
+    }
+
+    /** 기동 완료 후 인덱스 확인 (없으면 생성 또는 안내, 그 전까지는 LIKE 검색) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        if (!enabled) {
+            log.info("FULLTEXT 검색 비활성화 - LIKE 검색 사용");
+            return;
+        }
+
+        try {
+            List<FullTextIndex> missing = INDEXES.stream().filter(index -> !exists(index)).toList();
+            if (missing.isEmpty()) {
+                available = true;
+                log.info("✅ FULLTEXT(ngram) 검색 활성화");
+                return;
+            }
+
+            if (!createIndexes) {
+                missing.forEach(index -> log.warn("⚠️ FULLTEXT 인덱스 없음 - LIKE 검색 유지. 점검 시간에 실행 필요: {};", ddlOf(index)));
+                return;
+            }
+            executor.execute(() -> createMissing(missing));
+        } catch (Exception e) {
+            log.warn("⚠️ FULLTEXT 인덱스 확인 실패 - LIKE 검색 유지: {}", e.getMessage());
+        }
+    }
+
+    /** 백그라운드 생성 (요청 처리는 LIKE 검색으로 계속) */
+    private void createMissing(List<FullTextIndex> missing) {
+        try {
+            for (FullTextIndex index : missing) {
+                log.info("FULLTEXT 인덱스 생성 시작: {}.{}", index.table(), index.name());
+                jdbcTemplate.execute(ddlOf(index));
+                log.info("FULLTEXT 인덱스 생성 완료: {}.{}", index.table(), index.name());
+            }
+            available = true;
+            log.info("✅ FULLTEXT(ngram) 검색 활성화");
+        } catch (Exception e) {
+            log.warn("⚠️ FULLTEXT 인덱스 생성 실패 - LIKE 검색 유지: {}", e.getMessage());
+        }
+    }
+
+    private String ddlOf(FullTextIndex index) {
+        return "ALTER TABLE " + index.table()
+                + " ADD FULLTEXT INDEX " + index.name() + " (" + index.column() + ") WITH PARSER ngram";
+    }
+
+    /**
+     * 이 검색어를 FULLTEXT로 처리할 수 있는지
+     */
+    public boolean usable(String keyword) {
+        if (!available || keyword == null) return false;
+
+        List<String> tokens = tokens(keyword);
+        return !tokens.isEmpty() && tokens.stream().allMatch(t -> t.length() >= MIN_TOKEN_LENGTH);
+    }
+
+    /**
+     * 검색어 → BOOLEAN MODE 쿼리 (예: "해리 포터" → +"해리" +"포터")
+     * ngram 파서에서 구문 검색은 연속된 토큰 일치라 LIKE 부분 일치와 같은 결과를 낸다.
+     */
+    public String toBooleanQuery(String keyword) {
+        return tokens(keyword).stream()
+                .map(t -> "+\"" + t + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    private List<String> tokens(String keyword) {
+        // BOOLEAN MODE 연산자 제거
+        String cleaned = keyword.replaceAll("[+\\-<>()~*\"@]", " ");
+        return Arrays.stream(cleaned.trim().split("\\s+"))
+                .filter(t -> !t.isBlank())
+                .toList();
+    }
+
+    private boolean exists(FullTextIndex index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, index.table(), index.name());
+        return count != null && count > 0;
+    }
+
+    private record FullTextIndex(String table, String name, String column) {
+    }
+}
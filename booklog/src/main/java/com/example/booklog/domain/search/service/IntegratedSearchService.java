@@ -6,24 +6,33 @@ import com.example.booklog.domain.search.dto.AuthorSearchResponse;
 import com.example.booklog.domain.search.dto.IntegratedSearchResponse;
 import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
 import com.example.booklog.global.common.apiPayload.exception.GeneralException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * 통합 검색 서비스
  *
  * [설계 전략]
  * 1. 조회 전략: 분리된 트랜잭션
- *    - 작가 검색과 도서 검색은 독립적으로 실행
+ *    - 작가 검색과 도서 검색은 독립적으로 실행 (각 검색 서비스의 트랜잭션 사용)
  *    - 하나의 검색 실패가 다른 검색에 영향을 주지 않도록 분리
- *    - 각 검색 서비스의 readOnly 트랜잭션 활용
  *
  * 2. 성능 최적화
- *    - 작가/도서 검색을 순차 실행 (동일 검색어로 병렬 처리 불필요)
+ *    - 작가/도서 검색을 전용 executor(searchExecutor)에서 동시에 실행
+ *    - 검색별 타임아웃: 늦은 쪽은 빈 결과로 처리하고 다른 쪽 결과는 그대로 반환
+ *    - 검색별 소요 시간은 search.integrated.leg 지표로 기록 (leg, outcome 태그)
  *    - 각 검색 서비스 내부에서 N+1 문제 방지 (Batch Fetch, Fetch Join)
  *    - 전체 탭에서는 제한된 개수(예: 5개)만 조회하여 응답 속도 개선
  *
@@ -38,28 +47,40 @@ import java.util.List;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class IntegratedSearchService {
 
     private final AuthorSearchService authorSearchService;
     private final BookSearchService bookSearchService;
+    private final TaskExecutor searchExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long legTimeoutMillis;
 
     // 전체 탭에서 표시할 최대 결과 개수
     private static final int DEFAULT_RESULT_SIZE = 5;
 
+    public IntegratedSearchService(AuthorSearchService authorSearchService,
+                                   BookSearchService bookSearchService,
+                                   @Qualifier("searchExecutor") TaskExecutor searchExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${search.integrated.leg-timeout-millis:3000}") long legTimeoutMillis) {
+        this.authorSearchService = authorSearchService;
+        this.bookSearchService = bookSearchService;
+        this.searchExecutor = searchExecutor;
+        this.meterRegistry = meterRegistry;
+        this.legTimeoutMillis = legTimeoutMillis;
+    }
+
     /**
      * 통합 검색 실행
      *
      * [동작 흐름]
      * 1. 입력값 검증 (검색어, 정렬 기준)
-     * 2. 작가 검색 실행 (최대 5개)
-     * 3. 도서 검색 실행 (최대 5개)
-     * 4. 결과 통합 및 DTO 변환
+     * 2. 작가 검색 / 도서 검색 동시 실행 (각 최대 5개)
+     * 3. 결과 통합 및 DTO 변환
      *
      * [예외 처리]
-     * - 작가 검색 실패 시: 빈 결과로 처리하고 도서 검색 계속 진행
-     * - 도서 검색 실패 시: 빈 결과로 처리하고 작가 검색 결과는 반환
+     * - 작가 검색 실패/타임아웃 시: 빈 결과로 처리하고 도서 검색 결과는 반환
+     * - 도서 검색 실패/타임아웃 시: 빈 결과로 처리하고 작가 검색 결과는 반환
      * - 양쪽 모두 실패 시: 빈 결과 반환 (예외 발생 X)
      *
      * @param query 검색어 (필수, 1~100자)
@@ -81,11 +102,17 @@ public class IntegratedSearchService {
         // 1. 입력값 검증 (검색어 길이, 정렬 기준)
         validateSearchInput(query, sort);
 
-        // 2. 작가 검색 (실패해도 계속 진행)
-        AuthorSearchResponse authorResponse = searchAuthorsWithFallback(query, sort);
+        // 2. 작가/도서 검색 동시 실행 (한쪽이 실패하거나 늦어도 다른 쪽은 그대로 반환)
+        CompletableFuture<AuthorSearchResponse> authorLeg = startLeg("authors", query,
+                () -> authorSearchService.searchAuthors(query, 1, DEFAULT_RESULT_SIZE),
+                AuthorSearchResponse.of(List.of(), 1, DEFAULT_RESULT_SIZE, 0L));
+        CompletableFuture<BookSearchResponse> bookLeg = startLeg("books", query,
+                () -> bookSearchService.searchBooks(query, 1, DEFAULT_RESULT_SIZE),
+                new BookSearchResponse(1, DEFAULT_RESULT_SIZE, true, 0, List.of()));
 
-        // 3. 도서 검색 (실패해도 계속 진행)
-        BookSearchResponse bookResponse = searchBooksWithFallback(query, sort);
+        // 3. 대기 (각 leg는 타임아웃/실패 시 빈 결과로 완료되므로 예외 없음)
+        AuthorSearchResponse authorResponse = authorLeg.join();
+        BookSearchResponse bookResponse = bookLeg.join();
 
         // 4. 결과 통합
         IntegratedSearchResponse response = IntegratedSearchResponse.of(
@@ -103,37 +130,53 @@ public class IntegratedSearchService {
     }
 
     /**
-     * 작가 검색 실행 (예외 발생 시 빈 결과 반환)
+     * 검색 하나(leg)를 searchExecutor에서 실행
+     * 실패/타임아웃/executor 포화 시 빈 결과로 완료된다.
      *
-     * @param query 검색어
-     * @param sort 정렬 기준 (현재 미사용, 향후 확장)
-     * @return 작가 검색 응답
+     * 타임아웃이 나도 진행 중인 검색(임포트 포함)은 끝까지 수행되며 결과만 버린다.
+     *
+     * @param leg 지표/로그용 이름 (authors, books)
+     * @param query 검색어 (로그용)
+     * @param search 실제 검색
+     * @param empty 실패 시 반환할 빈 결과
      */
-    private AuthorSearchResponse searchAuthorsWithFallback(String query, String sort) {
+    private <T> CompletableFuture<T> startLeg(String leg, String query, Supplier<T> search, T empty) {
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<T> future;
         try {
-            // TODO: sort 파라미터 활용 (향후 확장)
-            return authorSearchService.searchAuthors(query, 1, DEFAULT_RESULT_SIZE);
+            future = CompletableFuture.supplyAsync(search, searchExecutor);
         } catch (Exception e) {
-            log.warn("작가 검색 실패 - query: {}, error: {}", query, e.getMessage());
-            return AuthorSearchResponse.of(List.of(), 1, DEFAULT_RESULT_SIZE, 0L);
+            log.warn("{} 검색 실행 불가(executor 포화) - query: {}, error: {}", leg, query, e.getMessage());
+            recordLeg(leg, "rejected", startNanos);
+            return CompletableFuture.completedFuture(empty);
         }
+
+        return future
+                .orTimeout(legTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex == null) {
+                        recordLeg(leg, "success", startNanos);
+                        return result;
+                    }
+
+                    Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                    String outcome = (cause instanceof TimeoutException) ? "timeout" : "error";
+                    log.warn("{} 검색 {} - query: {}, error: {}", leg, outcome, query, cause.getMessage());
+                    recordLeg(leg, outcome, startNanos);
+                    return empty;
+                });
     }
 
-    /**
-     * 도서 검색 실행 (예외 발생 시 빈 결과 반환)
-     *
-     * @param query 검색어
-     * @param sort 정렬 기준 (현재 미사용, 향후 확장)
-     * @return 도서 검색 응답
-     */
-    private BookSearchResponse searchBooksWithFallback(String query, String sort) {
-        try {
-            // TODO: sort 파라미터 활용 (향후 확장)
-            return bookSearchService.searchBooks(query, 1, DEFAULT_RESULT_SIZE);
-        } catch (Exception e) {
-            log.warn("도서 검색 실패 - query: {}, error: {}", query, e.getMessage());
-            return new BookSearchResponse(1, DEFAULT_RESULT_SIZE, true, 0, List.of());
-        }
+    private void recordLeg(String leg, String outcome, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        Timer.builder("search.integrated.leg")
+                .description("통합 검색 leg별 소요 시간")
+                .tag("leg", leg)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("통합 검색 {} leg {} - {}ms", leg, outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.example.booklog.domain.tags;
 import com.example.booklog.domain.tags.entity.TagCategory;
 import com.example.booklog.domain.tags.entity.Tags;
 import com.example.booklog.domain.tags.repository.TagsRepository;
+import com.example.booklog.domain.tags.service.TagRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.*;
@@ -15,6 +16,7 @@ import java.util.List;
 public class TagSeedConfig {
 
     private final TagsRepository tagsRepository;
+    private final TagRegistry tagRegistry;
 
     @Bean
     public ApplicationRunner tagSeeder() {
@@ -46,10 +48,15 @@ public class TagSeedConfig {
                 Tags.builder().category(TagCategory.STYLE).name("은유적").build()
         );
 
+        boolean inserted = false;
         for (Tags t : seeds) {
             if (!tagsRepository.existsByCategoryAndName(t.getCategory(), t.getName())) {
                 tagsRepository.save(t);
+                inserted = true;
             }
         }
+
+        // 태그 사전 갱신
+        if (inserted) tagRegistry.refresh();
     }
 }
@@ -0,0 +1,132 @@
+package com.example.booklog.domain.tags.service;
+
+import com.example.booklog.domain.tags.entity.TagCategory;
+import com.example.booklog.domain.tags.entity.Tags;
+import com.example.booklog.domain.tags.repository.TagsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 사전 (메모리 상주, 불변 스냅샷)
+ *
+ * 태그는 TagSeedConfig가 시드하는 고정 목록(15개 남짓)이라 매 요청마다 tags 테이블을 조회할 필요가 없다.
+ * 기동 시 한 번 읽어서 id → 태그 맵과 카테고리별 목록을 만들어 두고, 태그가 바뀌면 refresh()로 통째로 교체한다.
+ * 조회는 쿼리 없이 스냅샷만 읽는다.
+ *
+ * 태그 비트마스크: 태그 id를 비트 위치로 사용 (1L << tag_id, booklog_posts.tag_mask)
+ * long 하나에 담을 수 있는 id 1~62까지만 지원 (부호 비트 제외).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagRegistry {
+
+    private final TagsRepository tagsRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /** tags 테이블을 다시 읽어 스냅샷 교체 (태그 추가/변경 후 호출) */
+    public synchronized void refresh() {
+        List<Tags> all = tagsRepository.findAll();
+
+        Map<Long, TagEntry> byId = new HashMap<>();
+        Map<TagCategory, List<TagEntry>> byCategory = new EnumMap<>(TagCategory.class);
+        for (TagCategory category : TagCategory.values()) {
+            byCategory.put(category, new ArrayList<>());
+        }
+
+        for (Tags t : all) {
+            TagEntry entry = new TagEntry(t.getId(), t.getCategory(), t.getName());
+            byId.put(entry.id(), entry);
+            byCategory.get(entry.category()).add(entry);
+        }
+        // 드롭다운 노출 순서: 이름순
+        byCategory.replaceAll((category, entries) -> entries.stream()
+                .sorted(Comparator.comparing(TagEntry::name))
+                .toList());
+
+        this.snapshot = new Snapshot(Map.copyOf(byId), Map.copyOf(byCategory));
+        log.info("태그 사전 로드 - {}개", byId.size());
+
+        byId.keySet().stream()
+                .filter(id -> bitOf(id) == 0)
+                .forEach(id -> log.warn("태그 id {}는 비트마스크 범위(1~62)를 벗어나 피드 필터에 사용할 수 없음", id));
+    }
+
+    /** id로 태그 조회 (없으면 null) */
+    public TagEntry find(Long tagId) {
+        return tagId == null ? null : current().byId().get(tagId);
+    }
+
+    /** 요청 순서대로, 존재하는 태그만 반환 */
+    public List<TagEntry> findAll(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) return List.of();
+
+        Map<Long, TagEntry> byId = current().byId();
+        List<TagEntry> result = new ArrayList<>(tagIds.size());
+        for (Long id : tagIds) {
+            TagEntry entry = (id == null) ? null : byId.get(id);
+            if (entry != null) result.add(entry);
+        }
+        return result;
+    }
+
+    /** 카테고리별 태그 (이름순) */
+    public List<TagEntry> findByCategory(TagCategory category) {
+        return current().byCategory().getOrDefault(category, List.of());
+    }
+
+    /**
+     * 해당 카테고리에 속한 태그만 모아 비트마스크로 변환
+     * (다른 카테고리/없는 태그 id는 무시)
+     */
+    public long maskOf(TagCategory category, Collection<Long> tagIds) {
+        long mask = 0L;
+        for (TagEntry t : findAll(tagIds)) {
+            if (t.category() == category) mask |= bitOf(t.id());
+        }
+        return mask;
+    }
+
+    /** 태그 목록 전체의 비트마스크 */
+    public long maskOf(Collection<Long> tagIds) {
+        long mask = 0L;
+        for (TagEntry t : findAll(tagIds)) {
+            mask |= bitOf(t.id());
+        }
+        return mask;
+    }
+
+    public static long bitOf(Long tagId) {
+        return (tagId == null || tagId < 1 || tagId > 62) ? 0L : 1L << tagId;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            refresh(); // 기동 이벤트 전에 호출된 경우
+            s = snapshot;
+        }
+        return s;
+    }
+
+    public record TagEntry(Long id, TagCategory category, String name) {}
+
+    private record Snapshot(Map<Long, TagEntry> byId, Map<TagCategory, List<TagEntry>> byCategory) {}
+}
@@ -0,0 +1,34 @@
+package com.example.booklog.global.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 실행권 (여러 인스턴스 중 한 곳만 실행)
+ *
+ * 작업 이름당 한 행. 임대 중인 owner만 실행하고 매 실행마다 임대를 연장한다.
+ * owner가 죽으면 lease_until이 지난 뒤 다른 인스턴스가 가져간다. (SchedulerLeaseRepository.tryAcquire)
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "owner", length = 100, nullable = false)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
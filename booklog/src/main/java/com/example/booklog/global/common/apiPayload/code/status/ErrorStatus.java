@@ -37,6 +37,20 @@ public enum ErrorStatus implements BaseErrorCode {
     PAGE_SIZE_INVALID(HttpStatus.BAD_REQUEST, "SRCH004", "페이지 크기는 1~100 사이어야 합니다."),
     SORT_INVALID(HttpStatus.BAD_REQUEST, "SRCH005", "유효하지 않은 정렬 기준입니다."),
 
+    // =========================
+    // [Catalog Ingestion - Admin]
+    // =========================
+    INGESTION_SEED_FILE_NOT_FOUND(HttpStatus.BAD_REQUEST, "ING001", "수집 대상 파일을 찾을 수 없습니다."),
+    INGESTION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "ING002", "수집 작업을 찾을 수 없습니다."),
+    INGESTION_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "ING003", "이미 진행 중인 수집 작업입니다."),
+    INGESTION_JOB_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "ING004", "이미 완료된 수집 작업입니다."),
+
+    // =========================
+    // [External API - Kakao / Wikidata]
+    // =========================
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EXT001", "외부 도서 API를 일시적으로 사용할 수 없습니다."),
+    EXTERNAL_API_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "EXT002", "외부 도서 API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+
     // =========================
     // [Tag Validation - Booklog]
     // =========================
@@ -53,6 +67,7 @@ public enum ErrorStatus implements BaseErrorCode {
     POST_DELETE_FORBIDDEN(HttpStatus.FORBIDDEN, "BL002", "삭제 권한이 없습니다."),
     POST_ALREADY_DELETED_OR_CANNOT_DELETE(HttpStatus.BAD_REQUEST, "BL003", "이미 삭제되었거나 삭제할 수 없습니다."),
     IMAGE_MAX_8(HttpStatus.BAD_REQUEST, "BL004", "이미지는 최대 8장까지 가능합니다."),
+    FEED_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "BL005", "유효하지 않은 피드 커서입니다."),
 
     // =========================
     // [Shelf]
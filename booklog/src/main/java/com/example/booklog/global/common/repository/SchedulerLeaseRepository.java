@@ -0,0 +1,42 @@
+package com.example.booklog.global.common.repository;
+
+import com.example.booklog.global.common.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 실행권 획득/연장 시도
+     * 행이 없으면 만들고, 내가 owner이거나 임대가 끝났으면 owner/lease_until을 내 것으로 바꿈
+     * (동시에 시도해도 행 락으로 한 인스턴스만 owner가 됨)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduler_leases (name, owner, lease_until) VALUES (:name, :owner, :leaseUntil)
+            ON DUPLICATE KEY UPDATE
+                owner = IF(lease_until < :now OR owner = :owner, :owner, owner),
+                lease_until = IF(owner = :owner, :leaseUntil, lease_until)
+            """, nativeQuery = true)
+    int upsertIfFree(@Param("name") String name,
+                     @Param("owner") String owner,
+                     @Param("leaseUntil") LocalDateTime leaseUntil,
+                     @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT owner FROM scheduler_leases WHERE name = :name", nativeQuery = true)
+    String findOwner(@Param("name") String name);
+
+    /** @return 이번 실행권을 가졌는지 (영향받은 행 수는 드라이버 설정에 따라 달라 owner를 다시 읽어 확인) */
+    default boolean tryAcquire(String name, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        upsertIfFree(name, owner, now.plus(lease), now);
+        return owner.equals(findOwner(name));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.booklog.global.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -27,5 +28,94 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
-}
 
+    /**
+     * 홈 스냅샷 조립 전용 executor
+     * 조립은 한 번에 하나만 돌기 때문에 스레드 1개로 충분
+     */
+    @Bean(name = "homeSnapshotExecutor")
+    public ThreadPoolTaskExecutor homeSnapshotExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("HomeSnapshot-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 통합 검색 전용 executor
+     * 작가/도서 검색을 동시에 돌리며, 포화 시 대기 대신 거절(해당 검색은 빈 결과)
+     */
+    @Bean(name = "searchExecutor")
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("Search-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 백그라운드 카카오 임포트 전용 executor (비동기 검색 모드)
+     * 대기열이 가득 차면 거절 → 해당 검색은 enriching 없이 DB 결과만 반환
+     */
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("BookImport-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 카탈로그 대량 수집 작업 전용 executor
+     * 작업 1건이 스레드 1개를 오래 점유하므로 다른 비동기 작업과 분리
+     */
+    @Bean(name = "ingestionExecutor")
+    public ThreadPoolTaskExecutor ingestionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("CatalogIngestion-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 피드 서빙용 기동 작업 전용 executor (태그 비트맵 인덱스 구성, tag_mask 채우기)
+     * 카탈로그 정리 작업(ingestionExecutor) 뒤에 줄 서서 피드 인덱스가 늦게 만들어지지 않도록 분리
+     */
+    @Bean(name = "feedIndexExecutor")
+    public ThreadPoolTaskExecutor feedIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("FeedIndex-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작가 위키데이터 보강 워커 전용 executor
+     * 워커는 한 번에 하나만 돌기 때문에 스레드 1개 (스케줄러 스레드를 오래 붙잡지 않도록 분리)
+     */
+    @Bean(name = "authorEnrichmentExecutor")
+    public ThreadPoolTaskExecutor authorEnrichmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("AuthorEnrichment-");
+        executor.initialize();
+        return executor;
+    }
+}
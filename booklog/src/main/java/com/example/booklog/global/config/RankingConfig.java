@@ -0,0 +1,49 @@
+package com.example.booklog.global.config;
+
+import com.example.booklog.domain.ranking.store.ForwardDecay;
+import com.example.booklog.domain.ranking.store.InMemoryRankingStore;
+import com.example.booklog.domain.ranking.store.RankingStore;
+import com.example.booklog.domain.ranking.store.RedisRankingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+
+/**
+ * 실시간 랭킹 저장소 설정
+ *
+ * ✅ Redis 연결 성공 시: Redis ZSET (인스턴스 간 공유)
+ * ⚠️ Redis 연결 실패 또는 ranking.store=memory: 인메모리 저장소
+ */
+@Slf4j
+@Configuration
+public class RankingConfig {
+
+    @Bean
+    public ForwardDecay rankingDecay(@Value("${ranking.half-life-hours:72}") double halfLifeHours,
+                                     @Value("${ranking.rebase-exponent:50}") double rebaseExponent) {
+        return ForwardDecay.ofHalfLifeHours(halfLifeHours, rebaseExponent);
+    }
+
+    @Bean
+    public RankingStore rankingStore(ForwardDecay rankingDecay,
+                                     RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     @Value("${ranking.store:redis}") String storeType) {
+        if ("redis".equalsIgnoreCase(storeType)) {
+            try {
+                connectionFactory.getConnection().close();
+                log.info("✅ 랭킹 저장소: Redis ZSET");
+                return new RedisRankingStore(stringRedisTemplate, rankingDecay);
+            } catch (Exception e) {
+                log.warn("⚠️ Redis 연결 실패 - 랭킹 저장소 인메모리로 전환: {}", e.getMessage());
+            }
+        }
+        log.info("📦 랭킹 저장소: 인메모리");
+        return new InMemoryRankingStore(rankingDecay, Instant.now().getEpochSecond());
+    }
+}
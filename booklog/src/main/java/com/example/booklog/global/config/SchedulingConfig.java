@@ -0,0 +1,15 @@
+package com.example.booklog.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * 홈 스냅샷 갱신 등 요청 경로 밖에서 도는 주기 작업 활성화
+ * (스레드 풀 크기는 spring.task.scheduling.pool.size)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
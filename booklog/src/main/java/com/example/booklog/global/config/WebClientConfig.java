@@ -1,27 +1,78 @@
 // 파일: src/main/java/com/example/booklog/global/config/WebClientConfig.java
 package com.example.booklog.global.config;
 
+import com.example.booklog.domain.library.books.service.client.ExternalApiGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * 외부 API WebClient 설정
+ *
+ * 클라이언트별로 연결/응답 타임아웃과 커넥션 풀을 분리해서
+ * 한쪽 API 장애가 다른 API 호출이나 요청 스레드를 붙잡지 않도록 한다.
+ * 호출 제한/재시도/서킷은 ExternalApiGuard 빈에서 담당.
+ */
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient kakaoWebClient(@Value("${kakao.book.rest-api-key}") String restApiKey) {
+    public WebClient kakaoWebClient(@Value("${kakao.book.rest-api-key}") String restApiKey,
+                                    @Value("${kakao.book.base-url:https://dapi.kakao.com}") String baseUrl,
+                                    Environment env) {
         return WebClient.builder()
-                .baseUrl("https://dapi.kakao.com")
+                .clientConnector(connector("kakao", env, "kakao.client"))
+                .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + restApiKey)
                 .build();
     }
 
     @Bean
-    public WebClient wikidataWebClient() {
+    public WebClient wikidataWebClient(@Value("${wikidata.base-url:https://www.wikidata.org}") String baseUrl,
+                                       Environment env) {
         return WebClient.builder()
-                .baseUrl("https://www.wikidata.org")
+                .clientConnector(connector("wikidata", env, "wikidata.client"))
+                .baseUrl(baseUrl)
+                // wbgetentities 50건 배치 응답(claims 포함)은 기본 버퍼(256KB)를 넘음
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(
+                        env.getProperty("wikidata.client.max-in-memory-size-bytes", Integer.class, 16 * 1024 * 1024)))
+                .build();
+    }
+
+    @Bean
+    public ExternalApiGuard kakaoApiGuard(Environment env, MeterRegistry meterRegistry) {
+        return new ExternalApiGuard("kakao", ExternalApiGuard.Policy.from(env, "kakao.client"), meterRegistry);
+    }
+
+    @Bean
+    public ExternalApiGuard wikidataApiGuard(Environment env, MeterRegistry meterRegistry) {
+        return new ExternalApiGuard("wikidata", ExternalApiGuard.Policy.from(env, "wikidata.client"), meterRegistry);
+    }
+
+    private ReactorClientHttpConnector connector(String name, Environment env, String prefix) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(env.getProperty(prefix + ".max-connections", Integer.class, 50))
+                .pendingAcquireTimeout(Duration.ofMillis(
+                        env.getProperty(prefix + ".pending-acquire-timeout-millis", Long.class, 1000L)))
+                .maxIdleTime(Duration.ofSeconds(30))
                 .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        env.getProperty(prefix + ".connect-timeout-millis", Integer.class, 1000))
+                .responseTimeout(Duration.ofMillis(
+                        env.getProperty(prefix + ".response-timeout-millis", Long.class, 3000L)));
+
+        return new ReactorClientHttpConnector(httpClient);
     }
 }
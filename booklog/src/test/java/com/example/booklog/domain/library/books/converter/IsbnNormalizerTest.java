@@ -0,0 +1,66 @@
+package com.example.booklog.domain.library.books.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsbnNormalizerTest {
+
+    @Test
+    void validatesIsbn13Checksum() {
+        assertThat(IsbnNormalizer.isValidIsbn13("9780306406157")).isTrue();
+        assertThat(IsbnNormalizer.isValidIsbn13("9791162540640")).isTrue();
+        assertThat(IsbnNormalizer.isValidIsbn13("9780306406158")).isFalse();
+        assertThat(IsbnNormalizer.isValidIsbn13("1234567890128")).isFalse(); // 978/979 접두어 아님
+        assertThat(IsbnNormalizer.isValidIsbn13("978030640615")).isFalse();
+        assertThat(IsbnNormalizer.isValidIsbn13(null)).isFalse();
+    }
+
+    @Test
+    void validatesIsbn10Checksum() {
+        assertThat(IsbnNormalizer.isValidIsbn10("0306406152")).isTrue();
+        assertThat(IsbnNormalizer.isValidIsbn10("080442957X")).isTrue();
+        assertThat(IsbnNormalizer.isValidIsbn10("0306406153")).isFalse();
+        assertThat(IsbnNormalizer.isValidIsbn10("08044295X7")).isFalse(); // X는 마지막 자리만
+        assertThat(IsbnNormalizer.isValidIsbn10(null)).isFalse();
+    }
+
+    @Test
+    void convertsIsbn10ToIsbn13() {
+        assertThat(IsbnNormalizer.toIsbn13("0306406152")).isEqualTo("9780306406157");
+        assertThat(IsbnNormalizer.toIsbn13("080442957X")).isEqualTo("9780804429573");
+        assertThat(IsbnNormalizer.toIsbn13("8936434268")).isEqualTo("9788936434267");
+    }
+
+    @Test
+    void canonicalPrefersIsbn13InKakaoFormat() {
+        assertThat(IsbnNormalizer.canonical("8936434268 9788936434267")).isEqualTo("9788936434267");
+        assertThat(IsbnNormalizer.canonical("9788936434267 8936434268")).isEqualTo("9788936434267");
+    }
+
+    @Test
+    void canonicalConvertsLoneIsbn10() {
+        assertThat(IsbnNormalizer.canonical("8936434268")).isEqualTo("9788936434267");
+        assertThat(IsbnNormalizer.canonical(" 8936434268 ")).isEqualTo("9788936434267");
+        assertThat(IsbnNormalizer.canonical("080442957x")).isEqualTo("9780804429573");
+    }
+
+    @Test
+    void canonicalStripsHyphens() {
+        assertThat(IsbnNormalizer.canonical("978-0-306-40615-7")).isEqualTo("9780306406157");
+        assertThat(IsbnNormalizer.canonical("0-306-40615-2")).isEqualTo("9780306406157");
+    }
+
+    @Test
+    void canonicalFallsBackToValidIsbn10WhenIsbn13IsBroken() {
+        assertThat(IsbnNormalizer.canonical("0306406152 9780306406158")).isEqualTo("9780306406157");
+    }
+
+    @Test
+    void canonicalReturnsNullWithoutValidIsbn() {
+        assertThat(IsbnNormalizer.canonical(null)).isNull();
+        assertThat(IsbnNormalizer.canonical("  ")).isNull();
+        assertThat(IsbnNormalizer.canonical("0306406153 9780306406158")).isNull();
+        assertThat(IsbnNormalizer.canonical("abc")).isNull();
+    }
+}
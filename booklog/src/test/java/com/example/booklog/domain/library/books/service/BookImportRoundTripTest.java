@@ -0,0 +1,225 @@
+package com.example.booklog.domain.library.books.service;
+
+import com.example.booklog.domain.library.books.converter.BookSearchConverter;
+import com.example.booklog.domain.library.books.dto.KakaoBookSearchResponse;
+import com.example.booklog.domain.library.books.entity.Books;
+import com.example.booklog.domain.library.books.repository.BookBulkJdbcRepository;
+import com.example.booklog.domain.library.books.repository.BooksRepository;
+import com.example.booklog.domain.library.books.service.client.KakaoBookClient;
+import com.example.booklog.domain.library.books.service.client.KakaoNegativeCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카카오 임포트 DB 왕복 횟수 비교 (50건 페이지)
+ *
+ * JdbcTemplate/BooksRepository/EntityManager를 목으로 두고 실제 호출 수를 센다.
+ * 기록된 book.import.round-trips 값이 실제 호출 수와 같은지,
+ * 기존 문서별 처리 방식(문서당 조회/저장/flush 2회 + 작가별 조회/저장)보다 얼마나 줄었는지 확인.
+ */
+class BookImportRoundTripTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int DISTINCT_AUTHORS = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 목 DB 상태
+    private final Map<String, Books> booksByIsbn = new LinkedHashMap<>();
+    private final Map<String, Long> authorIds = new HashMap<>();
+    private final AtomicLong bookSeq = new AtomicLong();
+    private final AtomicLong authorSeq = new AtomicLong();
+
+    private JdbcTemplate jdbcTemplate;
+    private BooksRepository booksRepository;
+    private EntityManager entityManager;
+    private SimpleMeterRegistry meterRegistry;
+    private BookImportService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        booksRepository = mock(BooksRepository.class);
+        entityManager = mock(EntityManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        stubJdbc();
+        when(booksRepository.findAllByCanonicalIsbnInOrDetailUrlIn(anyCollection(), anyCollection()))
+                .thenAnswer(inv -> {
+                    Collection<String> isbns = inv.getArgument(0);
+                    return isbns.stream().map(booksByIsbn::get).filter(b -> b != null).toList();
+                });
+
+        BookBulkJdbcRepository bulkRepository = new BookBulkJdbcRepository(jdbcTemplate);
+        service = new BookImportService(
+                mock(KakaoBookClient.class),
+                mock(KakaoNegativeCache.class),
+                booksRepository,
+                new AuthorResolver(bulkRepository, meterRegistry, 1000),
+                new BookSearchConverter(),
+                objectMapper,
+                entityManager,
+                mock(ApplicationEventPublisher.class),
+                bulkRepository,
+                meterRegistry);
+    }
+
+    @Test
+    void newPageUsesConstantRoundTrips() {
+        List<KakaoBookSearchResponse.Document> docs = page();
+
+        assertThat(service.upsertDocuments(docs, "test")).hasSize(PAGE_SIZE);
+
+        // 도서 조회 1 + 작가 조회/생성/재조회 3 + 도서 insert/재조회 2 + flush 1 + 매핑 조회/insert 2 + 상세 1
+        assertThat(recordedRoundTrips()).isEqualTo(10);
+        assertThat(actualDbCalls()).isEqualTo(10);
+
+        int legacy = legacyRoundTrips(docs);
+        assertThat(legacy).isEqualTo(PAGE_SIZE * 4 + DISTINCT_AUTHORS * 2 + (PAGE_SIZE - DISTINCT_AUTHORS));
+        assertThat(legacy).isGreaterThan(25 * recordedRoundTrips());
+    }
+
+    @Test
+    void unchangedPageSkipsWrites() {
+        List<KakaoBookSearchResponse.Document> docs = page();
+        service.upsertDocuments(docs, "test");
+        clearInvocations(jdbcTemplate, booksRepository, entityManager);
+
+        assertThat(service.upsertDocuments(page(), "test")).hasSize(PAGE_SIZE);
+
+        // 도서 조회 1 + flush 1 (작가는 캐시 적중, 같은 payload는 매핑/상세 생략)
+        DistributionSummary summary = meterRegistry.get("book.import.round-trips").summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount() - 10).isEqualTo(2);
+        assertThat(actualDbCalls()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubJdbc() throws Exception {
+        doAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            Collection<Object> args = inv.getArgument(1);
+            if (sql.contains("INSERT INTO books")) {
+                for (Object arg : args) {
+                    Books book = (Books) arg;
+                    ReflectionTestUtils.setField(book, "id", bookSeq.incrementAndGet());
+                    booksByIsbn.putIfAbsent(book.getCanonicalIsbn(), book);
+                }
+            } else if (sql.contains("INSERT IGNORE INTO authors")) {
+                for (Object name : args) {
+                    authorIds.computeIfAbsent((String) name, n -> authorSeq.incrementAndGet());
+                }
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        doAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            RowCallbackHandler handler = inv.getArgument(1);
+            if (sql.contains("FROM authors")) {
+                Object[] args = Arrays.copyOfRange(inv.getArguments(), 2, inv.getArguments().length);
+                for (Object name : args) {
+                    Long id = authorIds.get((String) name);
+                    if (id == null) continue;
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getString("name")).thenReturn((String) name);
+                    when(rs.getLong("author_id")).thenReturn(id);
+                    handler.processRow(rs);
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private int recordedRoundTrips() {
+        return (int) meterRegistry.get("book.import.round-trips").summary().max();
+    }
+
+    /** 목에 실제로 나간 DB 호출 수 (JdbcTemplate 전부 + 도서 조회/저장 + flush) */
+    private int actualDbCalls() {
+        long flushes = mockingDetails(entityManager).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("flush"))
+                .count();
+        return mockingDetails(jdbcTemplate).getInvocations().size()
+                + mockingDetails(booksRepository).getInvocations().size()
+                + (int) flushes;
+    }
+
+    /**
+     * 기존 문서별 처리 방식의 DB 호출 수
+     * - 문서마다: findByIsbn13, save(신규 insert), flush, 매핑 clear 후 flush
+     * - 작가마다: findByName, 처음 보는 작가면 save
+     * (커밋 시 나가는 book_authors insert는 세지 않았으므로 실제보다 적게 잡힌 값)
+     */
+    private int legacyRoundTrips(List<KakaoBookSearchResponse.Document> docs) {
+        Set<String> seenAuthors = new HashSet<>();
+        int calls = 0;
+        for (KakaoBookSearchResponse.Document doc : docs) {
+            calls += 4;
+            for (String name : doc.getAuthors()) {
+                calls += seenAuthors.add(name) ? 2 : 1;
+            }
+        }
+        return calls;
+    }
+
+    private List<KakaoBookSearchResponse.Document> page() {
+        List<KakaoBookSearchResponse.Document> docs = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("title", "도서 " + i);
+            json.put("contents", "소개 " + i);
+            json.put("isbn", isbn13(i));
+            json.put("publisher", "출판사");
+            json.put("url", "https://search.daum.net/search?q=" + i);
+            json.put("authors", List.of("작가 " + (i % DISTINCT_AUTHORS)));
+            json.put("translators", List.of());
+            json.put("datetime", "2024-01-01T00:00:00.000+09:00");
+            docs.add(objectMapper.convertValue(json, KakaoBookSearchResponse.Document.class));
+        }
+        return docs;
+    }
+
+    private static String isbn13(int n) {
+        String body = String.format("979%09d", n);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int d = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? d : d * 3;
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
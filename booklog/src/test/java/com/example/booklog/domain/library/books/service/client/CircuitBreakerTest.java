@@ -0,0 +1,124 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 1000;
+    private static final long PROBE_TIMEOUT_MILLIS = 500;
+
+    private final AtomicLong now = new AtomicLong(0);
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker(THRESHOLD, OPEN_MILLIS, PROBE_TIMEOUT_MILLIS, now::get);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void allowsSingleProbeAfterOpenPeriod() {
+        open();
+
+        now.addAndGet(OPEN_MILLIS);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void closesWhenProbeSucceeds() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        breaker.tryAcquire();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void reopensWhenProbeFails() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void cancelledProbeReleasesSlot() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        breaker.tryAcquire();
+
+        breaker.onCancel();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void staleProbeExpiresAfterProbeTimeout() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        breaker.tryAcquire();
+
+        now.addAndGet(PROBE_TIMEOUT_MILLIS - 1);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void cancelInClosedStateDoesNotChangeState() {
+        breaker.onFailure();
+        breaker.onCancel();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import com.example.booklog.global.common.apiPayload.code.status.ErrorStatus;
+import com.example.booklog.global.common.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 서버(reactor-netty)를 상대로 한 보호 계층 동작 확인
+ * 재시도 대상(5xx/429)과 제외 대상(4xx), 시도별 타임아웃, 서킷 열림
+ */
+class ExternalApiGuardTest {
+
+    private static final int MAX_RETRIES = 2;
+    private static final long ATTEMPT_TIMEOUT_MILLIS = 300;
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private DisposableServer server;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/flaky", (req, res) -> hits.incrementAndGet() <= 2
+                                ? res.status(503).send()
+                                : res.sendString(Mono.just("ok")))
+                        .get("/throttled", (req, res) -> {
+                            hits.incrementAndGet();
+                            return res.status(429).send();
+                        })
+                        .get("/missing", (req, res) -> {
+                            hits.incrementAndGet();
+                            return res.status(404).send();
+                        })
+                        .get("/down", (req, res) -> {
+                            hits.incrementAndGet();
+                            return res.status(500).send();
+                        })
+                        .get("/slow", (req, res) -> {
+                            hits.incrementAndGet();
+                            return res.sendString(Mono.delay(Duration.ofSeconds(2)).thenReturn("late"));
+                        }))
+                .bindNow();
+        webClient = WebClient.create("http://127.0.0.1:" + server.port());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void retriesServerErrorsUntilSuccess() {
+        ExternalApiGuard guard = guard(MAX_RETRIES);
+
+        String body = guard.call("flaky", () -> get("/flaky")).block();
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(hits).hasValue(3);
+    }
+
+    @Test
+    void retriesTooManyRequestsThenGivesUp() {
+        ExternalApiGuard guard = guard(MAX_RETRIES);
+
+        assertThatThrownBy(() -> guard.call("throttled", () -> get("/throttled")).block())
+                .isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        assertThat(hits).hasValue(1 + MAX_RETRIES);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        ExternalApiGuard guard = guard(MAX_RETRIES);
+
+        assertThatThrownBy(() -> guard.call("missing", () -> get("/missing")).block())
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void timesOutEachAttempt() {
+        ExternalApiGuard guard = guard(0);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> guard.call("slow", () -> get("/slow")).block())
+                .hasRootCauseInstanceOf(TimeoutException.class); // block()이 checked 예외를 감싸서 던짐
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(ATTEMPT_TIMEOUT_MILLIS).isLessThan(1500);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailures() {
+        ExternalApiGuard guard = guard(0);
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> guard.call("down", () -> get("/down")).block())
+                    .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+
+        assertThatThrownBy(() -> guard.call("down", () -> get("/down")).block())
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getCode()).isEqualTo(ErrorStatus.EXTERNAL_API_UNAVAILABLE));
+        assertThat(hits).hasValue(FAILURE_THRESHOLD);
+    }
+
+    private ExternalApiGuard guard(int maxRetries) {
+        ExternalApiGuard.Policy policy = new ExternalApiGuard.Policy(
+                1000, 1000, 0, ATTEMPT_TIMEOUT_MILLIS, maxRetries, 10, 20, FAILURE_THRESHOLD, 60_000);
+        return new ExternalApiGuard("test", policy, new SimpleMeterRegistry());
+    }
+
+    private Mono<String> get(String path) {
+        return webClient.get().uri(path).retrieve().bodyToMono(String.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.booklog.domain.library.books.service.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void refillsOverTimeUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+        drain(bucket, 3);
+
+        now.addAndGet(SECOND / 10);
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        now.addAndGet(10 * SECOND);
+        assertThat(bucket.available()).isEqualTo(3.0);
+    }
+
+    @Test
+    void reservesWithinMaxWaitInOrder() {
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+        drain(bucket, 2);
+
+        long first = bucket.reserve(SECOND);
+        long second = bucket.reserve(SECOND);
+
+        assertThat(first).isEqualTo(SECOND / 10);
+        assertThat(second).isEqualTo(2 * SECOND / 10);
+        assertThat(bucket.available()).isZero();
+    }
+
+    @Test
+    void rejectsReservationBeyondMaxWaitWithoutConsuming() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        drain(bucket, 1);
+
+        assertThat(bucket.reserve(SECOND / 20)).isEqualTo(-1);
+
+        now.addAndGet(SECOND / 10);
+        assertThat(bucket.reserve(0)).isZero();
+    }
+
+    @Test
+    void reservedTokensAreRepaidBeforeNewCallsPass() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        drain(bucket, 1);
+        bucket.reserve(SECOND); // 0.1초 뒤 토큰 예약
+
+        now.addAndGet(SECOND / 10);
+
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    private void drain(TokenBucket bucket, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(bucket.tryAcquire()).isTrue();
+        }
+    }
+}